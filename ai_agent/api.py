@@ -37,6 +37,18 @@ class EventRequest(BaseModel):
     target_participants: float
 
 
+class PredictRequest(BaseModel):
+    title: str
+    event_type: str
+    organizer_type: str
+    target_major: str
+    target_grade: str
+    weekday: str
+    brand_score: float
+    date_gap: int
+    reward_amount: float
+
+
 class TextRequest(BaseModel):
     text: str
     target_participants: float
@@ -162,6 +174,24 @@ def optimize(req: EventRequest):
     }
 
 
+# =====================================
+# /predict
+# (리워드 금액별 예상 참여자 수, what-if 곡선용)
+# =====================================
+@app.post("/predict")
+def predict(req: PredictRequest):
+    if model is None:
+        return {"error": "model not initialized"}
+
+    features = req.dict(exclude={"reward_amount"})
+    predicted = model.predict_participants(features, req.reward_amount)
+
+    return {
+        "reward_amount": float(req.reward_amount),
+        "predicted_participants": float(predicted),
+    }
+
+
 # =====================================
 # /analyze_text
 # =====================================
@@ -0,0 +1,97 @@
+# export_model.py
+"""
+학습된 RewardMLModel 을 JSON 아티팩트로 내보낸다.
+백엔드(LocalRewardModel)는 이 파일만으로 JVM 안에서
+predict_participants / find_best_reward 를 동일하게 계산한다.
+
+사용법:
+    python export_model.py [train_csv] [eval_csv] [output_json]
+"""
+
+import json
+import sys
+
+from reward_optimizer import (
+    ALPHA,
+    BETA,
+    CATEGORICAL_COLS,
+    NUMERIC_COLS,
+    RewardMLModel,
+    find_best_reward,
+    load_event_data,
+)
+
+FORMAT_VERSION = 1
+
+
+def _features_from_row(row) -> dict:
+    return {
+        "event_type": str(row["event_type"]),
+        "organizer_type": str(row["organizer_type"]),
+        "target_major": str(row["target_major"]),
+        "target_grade": str(row["target_grade"]),
+        "weekday": str(row["weekday"]),
+        "brand_score": float(row["brand_score"]),
+        "date_gap": int(row["date_gap"]),
+    }
+
+
+def build_validation_rows(model: RewardMLModel, eval_df) -> list:
+    """
+    평가 데이터 각 행에 대한 Python 측 예측값.
+    백엔드는 아티팩트를 불러올 때 이 값과 자신의 계산 결과를 비교한다.
+    """
+    rows = []
+    for _, row in eval_df.iterrows():
+        features = _features_from_row(row)
+        reward = float(row["reward_amount"])
+        target = float(row["attended_participants"])
+
+        predicted = model.predict_participants(features, reward)
+        best_reward, expected = find_best_reward(model, features, target)
+
+        rows.append({
+            "features": {**features, "target_participants": target},
+            "reward_amount": reward,
+            "predicted_participants": predicted,
+            "recommended_reward": best_reward,
+            "expected_participants": expected,
+        })
+    return rows
+
+
+def export_model(model: RewardMLModel, eval_df, output_path: str) -> None:
+    preprocess = model.pipeline.named_steps["preprocess"]
+    cat_encoder = preprocess.named_transformers_["cat"]
+    num_scaler = preprocess.named_transformers_["num"]
+    booster = model.pipeline.named_steps["model"].booster_
+
+    artifact = {
+        "format_version": FORMAT_VERSION,
+        "categorical_columns": CATEGORICAL_COLS,
+        "categories": [[str(c) for c in cats] for cats in cat_encoder.categories_],
+        "numeric_columns": NUMERIC_COLS + ["reward_amount", "reward_effective"],
+        "scaler_mean": num_scaler.mean_.tolist(),
+        "scaler_scale": num_scaler.scale_.tolist(),
+        "time_decay_lambda": float(model.time_decay_lambda),
+        "reward_min": float(model.reward_min),
+        "reward_max": float(model.reward_max),
+        "alpha": ALPHA,
+        "beta": BETA,
+        "trees": booster.dump_model()["tree_info"],
+        "validation": build_validation_rows(model, eval_df),
+    }
+
+    with open(output_path, "w", encoding="utf-8") as f:
+        json.dump(artifact, f, ensure_ascii=False)
+
+
+if __name__ == "__main__":
+    train_csv = sys.argv[1] if len(sys.argv) > 1 else "event_logs_realistic_300.csv"
+    eval_csv = sys.argv[2] if len(sys.argv) > 2 else "event_logs_eval_100.csv"
+    output = sys.argv[3] if len(sys.argv) > 3 else "reward_model.json"
+
+    m = RewardMLModel()
+    m.fit(load_event_data(train_csv))
+    export_model(m, load_event_data(eval_csv), output)
+    print(f"[Export] model artifact written to {output}")
@@ -1,6 +1,7 @@
 package uos.software.sirip.config;
 
 import java.util.List;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -8,9 +9,13 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import uos.software.sirip.config.cluster.EventOwnershipFilter;
+import uos.software.sirip.config.ratelimit.CouponRateLimitFilter;
+import uos.software.sirip.config.security.JwtAuthenticationFilter;
 
 @Configuration
 public class SecurityConfig {
@@ -21,7 +26,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+        JwtAuthenticationFilter jwtAuthenticationFilter,
+        CouponRateLimitFilter couponRateLimitFilter,
+        EventOwnershipFilter eventOwnershipFilter) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(Customizer.withDefaults()) // ✅ 활성화
@@ -30,20 +38,53 @@ public class SecurityConfig {
                     "/swagger-ui/**",
                     "/v3/api-docs/**"
                 ).permitAll()
-                .requestMatchers("/auth/**", "/api/events/**", "/**")
-                .permitAll()       // 로그인·회원가입 공개
+                // 헬스체크만 공개, 메트릭 등 나머지 actuator 는 관리자만 ("/**" 보다 먼저 매칭)
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("MANAGER")
+                // 역할 제한 경로는 "/**" 공개 규칙보다 먼저 매칭 (먼저 일치한 규칙이 적용됨)
                 .requestMatchers("/api/admin/**").hasRole("MANAGER") // 관리자만
                 .requestMatchers("/user/**").hasAnyRole("USER", "MANAGER") // 사용자 이상
+                .requestMatchers("/auth/**", "/api/events/**", "/**")
+                .permitAll()       // 로그인·회원가입 공개
                 .anyRequest().authenticated()
             )
             // 로그인 폼 제거 (기본 HTML 폼 대신 API 사용)
             .formLogin(form -> form.disable())
             // 로그아웃도 필요 시 비활성화
-            .logout(logout -> logout.disable());
+            .logout(logout -> logout.disable())
+            // 이벤트 소유 노드로 전달 → JWT 인증 → 계정별 요청 제한 (컨트롤러 진입 전)
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(eventOwnershipFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(couponRateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // ✅ 보안 필터 체인에서만 실행되도록 서블릿 필터 자동 등록 해제
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+        JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<CouponRateLimitFilter> couponRateLimitFilterRegistration(
+        CouponRateLimitFilter filter) {
+        FilterRegistrationBean<CouponRateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<EventOwnershipFilter> eventOwnershipFilterRegistration(
+        EventOwnershipFilter filter) {
+        FilterRegistrationBean<EventOwnershipFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     // ✅ Spring Security가 인식할 수 있는 CORS 설정 제공
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -1,16 +1,43 @@
 package uos.software.sirip.config;
 
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient aiWebClient() {
+    public WebClient aiWebClient(
+        @Value("${reward-api.base-url}") String baseUrl,
+        @Value("${reward-api.connect-timeout}") Duration connectTimeout,
+        @Value("${reward-api.response-timeout}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .responseTimeout(responseTimeout);
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    // 클러스터 노드 간 요청 전달용 (이벤트 소유 노드로 포워딩)
+    @Bean
+    public WebClient clusterWebClient(
+        @Value("${cluster.connect-timeout}") Duration connectTimeout,
+        @Value("${cluster.forward-timeout}") Duration forwardTimeout) {
+        HttpClient httpClient = HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .responseTimeout(forwardTimeout);
+
         return WebClient.builder()
-                .baseUrl("http://reward-api:8000") // Docker Compose 기준
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,181 @@
+package uos.software.sirip.config.cluster;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 로 클러스터 멤버를 관리하고, 이벤트마다 소유 노드를 일관 해싱으로 정한다.
+ *
+ * 노드는 주기적으로 cluster:nodes(ZSET, 점수 = 마지막 heartbeat 시각)에 자신을 기록하고,
+ * nodeTtl 동안 기록이 없는 노드는 빠진 것으로 본다.
+ * 멤버가 바뀌면 handoverWindow 동안은 살아 있는 이전 소유자가 계속 처리해
+ * 로컬 작성기가 남은 신청을 마치고 재고를 돌려줄 시간을 준다 (빠진 노드의 이벤트는 바로 넘어감).
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    private static final String NODES_KEY = "cluster:nodes";
+    private static final String NODE_URLS_KEY = "cluster:node-urls";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final boolean enabled;
+    private final ClusterNode self;
+    private final Duration nodeTtl;
+    private final Duration handoverWindow;
+    private final int virtualNodes;
+
+    private volatile View view;
+
+    public ClusterMembership(
+        StringRedisTemplate stringRedisTemplate,
+        ApplicationEventPublisher eventPublisher,
+        Clock clock,
+        @Value("${cluster.enabled}") boolean enabled,
+        @Value("${cluster.node-id}") String nodeId,
+        @Value("${cluster.advertise-url}") String advertiseUrl,
+        @Value("${cluster.node-ttl}") Duration nodeTtl,
+        @Value("${cluster.handover-window}") Duration handoverWindow,
+        @Value("${cluster.virtual-nodes}") int virtualNodes) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.self = new ClusterNode(
+            nodeId.isBlank() ? "node-" + UUID.randomUUID().toString().substring(0, 8) : nodeId,
+            advertiseUrl);
+        this.nodeTtl = nodeTtl;
+        this.handoverWindow = handoverWindow;
+        this.virtualNodes = virtualNodes;
+        this.view = new View(new ConsistentHashRing(List.of(self), virtualNodes), null, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ClusterNode self() {
+        return self;
+    }
+
+    /**
+     * ✅ 이벤트 소유 노드 (넘겨주기 구간에는 살아 있는 이전 소유자)
+     */
+    public ClusterNode owner(Long eventId) {
+        View current = view;
+        ClusterNode owner = current.ring().owner(eventId);
+        if (current.previous() != null && clock.millis() < current.handoverUntil()) {
+            ClusterNode before = current.previous().owner(eventId);
+            if (!before.nodeId().equals(owner.nodeId()) && current.ring().contains(before)) {
+                return before;
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * ✅ 이 노드가 이벤트를 처리해야 하는지 (클러스터를 쓰지 않으면 항상 true)
+     */
+    public boolean ownsLocally(Long eventId) {
+        return !enabled || owner(eventId).nodeId().equals(self.nodeId());
+    }
+
+    /**
+     * ✅ heartbeat 기록, 빠진 노드 정리, 멤버가 바뀌었으면 링 재구성
+     */
+    @Scheduled(fixedDelayString = "${cluster.heartbeat-interval-ms}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        try {
+            stringRedisTemplate.opsForHash().put(NODE_URLS_KEY, self.nodeId(), self.baseUrl());
+            stringRedisTemplate.opsForZSet().add(NODES_KEY, self.nodeId(), now);
+            evictExpired(now - nodeTtl.toMillis());
+            refresh(liveNodes(now - nodeTtl.toMillis()), now);
+        } catch (RuntimeException e) {
+            // 이전 링을 그대로 쓴다 (다른 노드에서는 nodeTtl 뒤에 빠진 것으로 보임)
+            log.warn("Cluster heartbeat failed for node {}", self.nodeId(), e);
+        }
+        settleHandover(now);
+    }
+
+    /**
+     * ✅ 종료 시 바로 멤버에서 빠져 다른 노드가 nodeTtl 을 기다리지 않고 넘겨받게 한다
+     */
+    @PreDestroy
+    public void leave() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForZSet().remove(NODES_KEY, self.nodeId());
+            stringRedisTemplate.opsForHash().delete(NODE_URLS_KEY, self.nodeId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to leave cluster as node {}", self.nodeId(), e);
+        }
+    }
+
+    private void evictExpired(long cutoff) {
+        Set<String> expired = stringRedisTemplate.opsForZSet().rangeByScore(NODES_KEY, 0, cutoff);
+        if (expired == null || expired.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, cutoff);
+        stringRedisTemplate.opsForHash().delete(NODE_URLS_KEY, expired.toArray());
+    }
+
+    private List<ClusterNode> liveNodes(long cutoff) {
+        Set<String> nodeIds = stringRedisTemplate.opsForZSet()
+            .rangeByScore(NODES_KEY, cutoff, Double.POSITIVE_INFINITY);
+        if (nodeIds == null || nodeIds.isEmpty()) {
+            return List.of(self);
+        }
+        Map<Object, Object> urls = stringRedisTemplate.opsForHash().entries(NODE_URLS_KEY);
+        return nodeIds.stream()
+            .map(nodeId -> urls.get(nodeId) == null
+                ? null : new ClusterNode(nodeId, urls.get(nodeId).toString()))
+            .filter(Objects::nonNull)
+            .sorted(Comparator.comparing(ClusterNode::nodeId))
+            .toList();
+    }
+
+    private void refresh(List<ClusterNode> nodes, long now) {
+        View current = view;
+        ConsistentHashRing ring = new ConsistentHashRing(nodes, virtualNodes);
+        if (ring.nodeIds().equals(current.ring().nodeIds())) {
+            return;
+        }
+        view = new View(ring, current.ring(), now + handoverWindow.toMillis());
+        log.info("Cluster membership changed: {} -> {}", current.ring().nodeIds(), ring.nodeIds());
+        eventPublisher.publishEvent(new EventOwnershipChangedEvent(ring.nodeIds()));
+    }
+
+    private void settleHandover(long now) {
+        View current = view;
+        if (current.previous() == null || now < current.handoverUntil()) {
+            return;
+        }
+        view = new View(current.ring(), null, 0);
+        eventPublisher.publishEvent(new EventOwnershipChangedEvent(current.ring().nodeIds()));
+    }
+
+    private record View(ConsistentHashRing ring, ConsistentHashRing previous, long handoverUntil) {
+    }
+}
@@ -0,0 +1,7 @@
+package uos.software.sirip.config.cluster;
+
+/**
+ * 클러스터에 참여한 백엔드 노드 (다른 노드가 요청을 넘길 때 쓰는 주소 포함)
+ */
+public record ClusterNode(String nodeId, String baseUrl) {
+}
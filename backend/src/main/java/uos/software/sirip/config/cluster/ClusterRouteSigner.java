@@ -0,0 +1,87 @@
+package uos.software.sirip.config.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 사이에서 넘긴 요청 표시(포워딩 헤더 · 리다이렉트 파라미터)를 서명 · 검증한다.
+ * 형식: nodeId.만료시각(초).HMAC-SHA256(메서드 · 경로 · nodeId · 만료시각) 앞 16바이트(base64url).
+ * 공유 비밀이 없는 클라이언트는 표시를 만들 수 없어 소유 노드 라우팅을 건너뛸 수 없다.
+ */
+@Component
+class ClusterRouteSigner {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 16;
+
+    private final ThreadLocal<Mac> macs;
+    private final Clock clock;
+    private final Duration ttl;
+
+    ClusterRouteSigner(
+        Clock clock,
+        @Value("${cluster.secret}") String secret,
+        @Value("${cluster.route-marker-ttl}") Duration ttl) {
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC 초기화 실패", e);
+            }
+        });
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    String sign(String nodeId, String method, String path) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        return nodeId + "." + expiresAt + "." + mac(nodeId, expiresAt, method, path);
+    }
+
+    /**
+     * 서명이 맞고 만료되지 않았으면 true (없거나 형식이 틀리면 false)
+     */
+    boolean verify(String marker, String method, String path) {
+        if (marker == null) {
+            return false;
+        }
+        // nodeId 에 '.' 이 있어도 되도록 뒤에서부터 나눈다
+        int macStart = marker.lastIndexOf('.');
+        int expiresStart = macStart > 0 ? marker.lastIndexOf('.', macStart - 1) : -1;
+        if (expiresStart <= 0) {
+            return false;
+        }
+        String nodeId = marker.substring(0, expiresStart);
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(marker.substring(expiresStart + 1, macStart));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiresAt < clock.instant().getEpochSecond()) {
+            return false;
+        }
+        byte[] expected = mac(nodeId, expiresAt, method, path).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = marker.substring(macStart + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private String mac(String nodeId, long expiresAt, String method, String path) {
+        byte[] payload = String.join("\n", method, path, nodeId, String.valueOf(expiresAt))
+            .getBytes(StandardCharsets.UTF_8);
+        byte[] mac = Arrays.copyOf(macs.get().doFinal(payload), MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac);
+    }
+}
@@ -0,0 +1,61 @@
+package uos.software.sirip.config.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * eventId → 노드 일관 해싱 링. 노드마다 가상 노드를 여러 개 두어 이벤트가 고르게 퍼지고,
+ * 노드가 하나 들어오거나 빠지면 그 노드 몫의 이벤트만 옮겨 간다.
+ * 모든 노드가 같은 멤버 목록이면 같은 링을 만든다.
+ */
+final class ConsistentHashRing {
+
+    private final NavigableMap<Long, ClusterNode> ring = new TreeMap<>();
+    private final Set<String> nodeIds;
+
+    ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        for (ClusterNode node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node.nodeId() + "#" + i), node);
+            }
+        }
+        this.nodeIds = nodes.stream().map(ClusterNode::nodeId).collect(Collectors.toUnmodifiableSet());
+    }
+
+    ClusterNode owner(Long eventId) {
+        Map.Entry<Long, ClusterNode> entry = ring.ceilingEntry(hash("event:" + eventId));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    boolean contains(ClusterNode node) {
+        return nodeIds.contains(node.nodeId());
+    }
+
+    Set<String> nodeIds() {
+        return nodeIds;
+    }
+
+    private static long hash(String key) {
+        byte[] digest = md5().digest(key.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
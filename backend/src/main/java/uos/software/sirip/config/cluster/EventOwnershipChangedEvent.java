@@ -0,0 +1,9 @@
+package uos.software.sirip.config.cluster;
+
+import java.util.Set;
+
+/**
+ * 이벤트 소유 노드가 바뀌었음을 알린다 (노드 합류 · 이탈, 넘겨주기 구간 종료).
+ */
+public record EventOwnershipChangedEvent(Set<String> nodeIds) {
+}
@@ -0,0 +1,190 @@
+package uos.software.sirip.config.cluster;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+/**
+ * 이벤트 단위로 처리해야 하는 쿠폰 신청 요청을 소유 노드로 보낸다.
+ * 인증 · 요청 제한 전에 실행되어 소유 노드에서 한 번만 처리된다.
+ *
+ * 일반 요청은 소유 노드로 그대로 전달(포워딩)하고 응답을 돌려준다.
+ * 오래 열려 있는 SSE 는 스레드를 잡지 않도록 307 로 돌려보낸다.
+ * 이미 한 번 넘어온 요청은 다시 넘기지 않아(노드마다 링이 잠깐 다를 수 있음) 왕복하지 않는다.
+ * 넘어온 요청 표시는 노드끼리 공유한 비밀로 서명하며, 서명이 맞지 않으면 일반 요청으로 다룬다.
+ *
+ * 소유 노드에 연결되지 않으면 신청(POST)만 이 노드에서 처리한다. applyV2 와 발급 엔진 모두
+ * Redis 신청 기록 · 재고 키에서 원자적으로 판정하므로 노드가 달라도 중복 · 초과 발급은 없다.
+ * 결과 조회(GET)는 결과가 소유 노드 메모리에만 있어 503 으로 재시도를 요청한다.
+ * 연결된 뒤 응답이 늦으면 소유 노드가 처리 중일 수 있으므로 역시 503 으로 재시도를 요청한다.
+ */
+@Slf4j
+@Component
+public class EventOwnershipFilter extends OncePerRequestFilter {
+
+    static final String FORWARDED_HEADER = "X-Cluster-Forwarded-By";
+    static final String REDIRECTED_PARAM = "ownerNode";
+
+    private static final Pattern FORWARDED_PATH =
+        Pattern.compile("^/api/events/(\\d+)/coupons(?:/requests(?:/[^/]+)?)?$");
+    private static final Pattern REDIRECTED_PATH =
+        Pattern.compile("^/api/events/(\\d+)/coupons/requests/[^/]+/stream$");
+    private static final List<String> FORWARDED_REQUEST_HEADERS = List.of(
+        HttpHeaders.AUTHORIZATION,
+        HttpHeaders.ACCEPT,
+        "X-Admission-Token"
+    );
+    private static final List<String> FORWARDED_RESPONSE_HEADERS = List.of(
+        HttpHeaders.CONTENT_TYPE,
+        HttpHeaders.RETRY_AFTER
+    );
+
+    private final ClusterMembership clusterMembership;
+    private final ClusterRouteSigner clusterRouteSigner;
+    private final WebClient clusterWebClient;
+    private final Duration forwardTimeout;
+
+    public EventOwnershipFilter(
+        ClusterMembership clusterMembership,
+        ClusterRouteSigner clusterRouteSigner,
+        @Qualifier("clusterWebClient") WebClient clusterWebClient,
+        @Value("${cluster.forward-timeout}") Duration forwardTimeout) {
+        this.clusterMembership = clusterMembership;
+        this.clusterRouteSigner = clusterRouteSigner;
+        this.clusterWebClient = clusterWebClient;
+        this.forwardTimeout = forwardTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!clusterMembership.isEnabled()) {
+            return true;
+        }
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        return clusterRouteSigner.verify(request.getHeader(FORWARDED_HEADER), method, uri)
+            || clusterRouteSigner.verify(request.getParameter(REDIRECTED_PARAM), method, uri);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain)
+        throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher redirected = REDIRECTED_PATH.matcher(path);
+        Matcher forwarded = FORWARDED_PATH.matcher(path);
+        boolean redirect = HttpMethod.GET.matches(request.getMethod()) && redirected.matches();
+        Matcher matched = redirect ? redirected : forwarded;
+        if (!redirect && !forwarded.matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Long eventId = Long.valueOf(matched.group(1));
+        if (clusterMembership.ownsLocally(eventId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ClusterNode owner = clusterMembership.owner(eventId);
+        if (redirect) {
+            redirect(owner, request, response);
+            return;
+        }
+        if (!forward(owner, request, response)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private void redirect(ClusterNode owner, HttpServletRequest request,
+        HttpServletResponse response) {
+        String query = request.getQueryString();
+        String marker = clusterRouteSigner.sign(owner.nodeId(), request.getMethod(), request.getRequestURI());
+        String location = owner.baseUrl() + request.getRequestURI()
+            + (query == null ? "?" : "?" + query + "&") + REDIRECTED_PARAM + "="
+            + URLEncoder.encode(marker, StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, location);
+    }
+
+    /**
+     * 소유 노드로 전달하고 응답을 그대로 쓴다. 연결되지 않은 신청(POST)만 false 로 이 노드에 맡긴다
+     * (대상 요청은 본문이 없다)
+     */
+    private boolean forward(ClusterNode owner, HttpServletRequest request,
+        HttpServletResponse response) throws IOException {
+        String query = request.getQueryString();
+        String uri = owner.baseUrl() + request.getRequestURI() + (query == null ? "" : "?" + query);
+
+        ResponseEntity<byte[]> forwarded;
+        try {
+            forwarded = clusterWebClient.method(HttpMethod.valueOf(request.getMethod()))
+                .uri(uri)
+                .headers(headers -> {
+                    FORWARDED_REQUEST_HEADERS.forEach(name -> {
+                        String value = request.getHeader(name);
+                        if (value != null) {
+                            headers.set(name, value);
+                        }
+                    });
+                    headers.set(FORWARDED_HEADER, clusterRouteSigner.sign(
+                        clusterMembership.self().nodeId(), request.getMethod(), request.getRequestURI()));
+                })
+                .exchangeToMono(clientResponse -> clientResponse.toEntity(byte[].class))
+                .block(forwardTimeout);
+        } catch (WebClientRequestException e) {
+            if (HttpMethod.POST.matches(request.getMethod())) {
+                log.warn("Owner node {} is unreachable, handling {} locally",
+                    owner.nodeId(), request.getRequestURI(), e);
+                return false;
+            }
+            log.warn("Owner node {} is unreachable for {}", owner.nodeId(), request.getRequestURI(), e);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Forwarding {} to owner node {} timed out", request.getRequestURI(),
+                owner.nodeId(), e);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return true;
+        }
+        if (forwarded == null) {
+            return false;
+        }
+
+        response.setStatus(forwarded.getStatusCode().value());
+        FORWARDED_RESPONSE_HEADERS.forEach(name -> {
+            String value = forwarded.getHeaders().getFirst(name);
+            if (value != null) {
+                response.setHeader(name, value);
+            }
+        });
+        if (forwarded.getBody() != null) {
+            response.getOutputStream().write(forwarded.getBody());
+        }
+        return true;
+    }
+}
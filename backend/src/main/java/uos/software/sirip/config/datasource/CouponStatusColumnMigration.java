@@ -0,0 +1,40 @@
+package uos.software.sirip.config.datasource;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * coupons.status 를 VARCHAR 로 맞춘다.
+ *
+ * 예전 스키마는 Hibernate 6 이 enum 값 목록으로 만든 MySQL enum(...) 컬럼이라 새 상태(MINTED)를 거부하고,
+ * ddl-auto: update 는 이미 있는 컬럼의 타입을 바꾸지 않으므로 기동 시 한 번 직접 변경한다.
+ * (수동 배포 시: ALTER TABLE coupons MODIFY status VARCHAR(20))
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponStatusColumnMigration {
+
+    private static final String COLUMN_TYPE_SQL = """
+        SELECT DATA_TYPE FROM information_schema.COLUMNS
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'coupons' AND COLUMN_NAME = 'status'
+        """;
+    private static final String ALTER_SQL = "ALTER TABLE coupons MODIFY status VARCHAR(20)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        // 테이블이 아직 없으면 Hibernate 가 VARCHAR 로 새로 만든다
+        List<String> types = jdbcTemplate.queryForList(COLUMN_TYPE_SQL, String.class);
+        if (types.isEmpty() || !"enum".equalsIgnoreCase(types.get(0))) {
+            return;
+        }
+        jdbcTemplate.execute(ALTER_SQL);
+        log.info("Converted coupons.status from enum to VARCHAR(20)");
+    }
+}
@@ -0,0 +1,106 @@
+package uos.software.sirip.config.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 방금 쓴 계정의 읽기를 잠시 primary 로 보낸다 (복제 지연 동안 자기 신청이 안 보이는 문제 방지).
+ *
+ * 같은 노드의 다음 요청은 로컬 맵으로, 다른 노드로 간 요청은 Redis 표식(TTL = window)으로 판단한다.
+ * window 는 레플리카를 쓰는 최대 지연(max-lag)보다 길게 둔다. 레플리카가 없으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class ReadYourWritesGuard {
+
+    private static final String KEY_PREFIX = "ryw:";
+    private static final int LOCAL_MAX_ENTRIES = 100_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Clock clock;
+    private final Duration window;
+    private final boolean enabled;
+    private final Map<Long, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(
+        StringRedisTemplate stringRedisTemplate,
+        Clock clock,
+        @Value("${datasource.replica.read-your-writes-window}") Duration window,
+        @Value("${datasource.replica.urls:}") String replicaUrls) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clock = clock;
+        this.window = window;
+        this.enabled = !replicaUrls.isBlank();
+    }
+
+    /**
+     * ✅ 현재 트랜잭션이 커밋되면 해당 계정의 읽기를 window 동안 primary 로 고정
+     */
+    public void markWritten(Long accountId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(accountId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(accountId);
+            }
+        });
+    }
+
+    /**
+     * 요청 스레드의 인증 계정이 최근에 썼는지 (인증 정보가 없으면 false)
+     */
+    boolean requiresPrimary() {
+        if (!enabled) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Long accountId)) {
+            return false;
+        }
+
+        Long localUntil = primaryUntil.get(accountId);
+        if (localUntil != null) {
+            if (localUntil > clock.millis()) {
+                return true;
+            }
+            primaryUntil.remove(accountId, localUntil);
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + accountId));
+        } catch (DataAccessException e) {
+            // 판단할 수 없으면 안전하게 primary
+            log.warn("Read-your-writes marker lookup failed, routing to primary", e);
+            return true;
+        }
+    }
+
+    private void pin(Long accountId) {
+        if (primaryUntil.size() >= LOCAL_MAX_ENTRIES) {
+            long now = clock.millis();
+            primaryUntil.values().removeIf(until -> until <= now);
+        }
+        primaryUntil.put(accountId, clock.millis() + window.toMillis());
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + accountId, "1", window);
+        } catch (DataAccessException e) {
+            log.warn("Failed to record read-your-writes marker for account {}", accountId, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package uos.software.sirip.config.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 레플리카마다 복제 지연을 주기적으로 확인하고, 허용 지연 이내인 레플리카만 읽기에 쓴다.
+ * 확인 전이거나 복제가 멈췄거나 조회에 실패하면 제외 → 남은 레플리카가 없으면 primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final List<DataSource> replicas;
+    private final Duration maxLag;
+    private final boolean requireReplication;
+    private final AtomicReferenceArray<Boolean> healthy;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaLagMonitor(List<DataSource> replicas, Duration maxLag, boolean requireReplication) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.requireReplication = requireReplication;
+        this.healthy = new AtomicReferenceArray<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            healthy.set(i, false);
+        }
+    }
+
+    public List<DataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * 사용할 레플리카 번호 (정상인 레플리카를 돌아가며), 없으면 -1
+     */
+    public int pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int candidate = (start + i) % size;
+            if (healthy.get(candidate)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms}")
+    public void check() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean ok = withinLag(replicas.get(i));
+            if (healthy.getAndSet(i, ok) != ok) {
+                log.warn("Replica {} is now {}", i, ok ? "in rotation" : "out of rotation");
+            }
+        }
+    }
+
+    private boolean withinLag(DataSource replica) {
+        try (Connection connection = replica.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                // 복제 설정이 없는 인스턴스 (로컬 테스트에서는 허용 가능)
+                return !requireReplication;
+            }
+            long lagSeconds = rs.getLong("Seconds_Behind_Source");
+            return !rs.wasNull() && lagSeconds <= maxLag.toSeconds();
+        } catch (SQLException e) {
+            log.debug("Replica lag check failed", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package uos.software.sirip.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * datasource.replica.urls 가 있으면 primary + 레플리카 라우팅 DataSource 를 만든다.
+ * 레플리카 계정은 spring.datasource 와 같은 것을 쓴다 (지연 확인에 REPLICATION CLIENT 권한 필요).
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.urls:}'.isBlank()")
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        DataSourceProperties properties,
+        @Value("${datasource.replica.urls}") String replicaUrls,
+        @Value("${datasource.replica.max-lag}") Duration maxLag,
+        @Value("${datasource.replica.require-replication}") boolean requireReplication) {
+        List<DataSource> replicas = new ArrayList<>();
+        List<String> urls = Arrays.stream(replicaUrls.split(","))
+            .map(String::strip)
+            .filter(url -> !url.isEmpty())
+            .toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(urls.get(i))
+                .build();
+            replica.setPoolName(ReplicationRoutingDataSource.REPLICA_PREFIX + i);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaLagMonitor(replicas, maxLag, requireReplication);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        DataSourceProperties properties,
+        ReplicaLagMonitor replicaLagMonitor,
+        ReadYourWritesGuard readYourWritesGuard) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName(ReplicationRoutingDataSource.PRIMARY);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicationRoutingDataSource.PRIMARY, primary);
+        List<DataSource> replicas = replicaLagMonitor.replicas();
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(ReplicationRoutingDataSource.REPLICA_PREFIX + i, replicas.get(i));
+        }
+
+        ReplicationRoutingDataSource routing =
+            new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesGuard);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
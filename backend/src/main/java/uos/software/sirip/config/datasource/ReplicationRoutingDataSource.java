@@ -0,0 +1,35 @@
+package uos.software.sirip.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 나머지는 primary 로 보낸다.
+ * LazyConnectionDataSourceProxy 뒤에 두어 readOnly 가 정해진 뒤(첫 SQL 시점)에 커넥션을 고른다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor,
+        ReadYourWritesGuard readYourWritesGuard) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesGuard = readYourWritesGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int replica = replicaLagMonitor.pick();
+        if (replica < 0 || readYourWritesGuard.requiresPrimary()) {
+            return PRIMARY;
+        }
+        return REPLICA_PREFIX + replica;
+    }
+}
@@ -0,0 +1,133 @@
+package uos.software.sirip.config.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 쿠폰 신청 · 사용 · 노쇼 · 취소 요청을 계정별로 제한한다.
+ * JwtAuthenticationFilter 뒤에서 실행되므로 컨트롤러(@CurrentUser)와 같은 accountId 를 쓴다.
+ *
+ * Redis 가 거절하며 알려준 재시도 시각까지는 로컬에서 바로 거절한다.
+ * 다른 노드의 요청은 토큰을 더 쓰기만 하므로 그 전에 토큰이 생길 수 없어 판정이 달라지지 않는다.
+ */
+@Component
+public class CouponRateLimitFilter extends OncePerRequestFilter {
+
+    private static final List<String> LIMITED_PATTERNS = List.of(
+        "/api/events/*/coupons",
+        "/api/events/*/coupons/requests",
+        "/api/coupons/*/redeem",
+        "/api/coupons/*/no-show",
+        "/api/coupons/*/cancel"
+    );
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<Long, Long> blockedUntil = new ConcurrentHashMap<>();
+    private final RedisTokenBucket redisTokenBucket;
+    private final Clock clock;
+    private final int localBlockMaxEntries;
+
+    public CouponRateLimitFilter(
+        RedisTokenBucket redisTokenBucket,
+        Clock clock,
+        @Value("${rate-limit.coupon.local-block-max-entries}") int localBlockMaxEntries) {
+        this.redisTokenBucket = redisTokenBucket;
+        this.clock = clock;
+        this.localBlockMaxEntries = localBlockMaxEntries;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return LIMITED_PATTERNS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain)
+        throws ServletException, IOException {
+
+        Long accountId = currentAccountId();
+        if (accountId == null) {
+            // 인증 실패는 뒤에서 처리
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = clock.millis();
+        Long localUntil = blockedUntil.get(accountId);
+        if (localUntil != null) {
+            if (localUntil > now) {
+                reject(response, RateLimitDecision.blocked(localUntil - now));
+                return;
+            }
+            blockedUntil.remove(accountId, localUntil);
+        }
+
+        RateLimitDecision decision = redisTokenBucket.tryConsume(accountId);
+        writeLimitHeaders(response, decision);
+        if (!decision.allowed()) {
+            rememberBlocked(accountId, now + decision.retryAfterMillis());
+            reject(response, decision);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Long currentAccountId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long accountId) {
+            return accountId;
+        }
+        return null;
+    }
+
+    private void rememberBlocked(Long accountId, long until) {
+        if (blockedUntil.size() >= localBlockMaxEntries) {
+            long now = clock.millis();
+            blockedUntil.values().removeIf(expiry -> expiry <= now);
+            if (blockedUntil.size() >= localBlockMaxEntries) {
+                // 정리해도 가득 차 있으면 로컬 캐시 없이 Redis 판정만 사용
+                return;
+            }
+        }
+        blockedUntil.merge(accountId, until, Math::max);
+    }
+
+    private void writeLimitHeaders(HttpServletResponse response, RateLimitDecision decision) {
+        response.setHeader("X-RateLimit-Limit", String.valueOf(redisTokenBucket.capacity()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(toSeconds(decision.resetMillis())));
+    }
+
+    private void reject(HttpServletResponse response, RateLimitDecision decision)
+        throws IOException {
+        writeLimitHeaders(response, decision);
+        response.setHeader("Retry-After", String.valueOf(toSeconds(decision.retryAfterMillis())));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -0,0 +1,20 @@
+package uos.software.sirip.config.ratelimit;
+
+/**
+ * 토큰 버킷 판정 결과. 시간 값은 모두 밀리초.
+ */
+public record RateLimitDecision(
+    boolean allowed,
+    long remaining,
+    long retryAfterMillis,
+    long resetMillis
+) {
+
+    static RateLimitDecision allowedWithoutLimit(long capacity) {
+        return new RateLimitDecision(true, capacity, 0, 0);
+    }
+
+    static RateLimitDecision blocked(long retryAfterMillis) {
+        return new RateLimitDecision(false, 0, retryAfterMillis, retryAfterMillis);
+    }
+}
@@ -0,0 +1,69 @@
+package uos.software.sirip.config.ratelimit;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계정별 토큰 버킷. 버킷 상태는 Redis 에 두고 Lua 한 번으로 판정해 여러 노드에서 같은 한도를 쓴다.
+ */
+@Slf4j
+@Component
+public class RedisTokenBucket {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/token_bucket.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long capacity;
+    private final double refillPerSecond;
+
+    public RedisTokenBucket(
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${rate-limit.coupon.capacity}") long capacity,
+        @Value("${rate-limit.coupon.refill-per-second}") double refillPerSecond) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    /**
+     * ✅ 토큰 1개 차감 시도 (Redis 장애 시에는 통과시킨다)
+     */
+    public RateLimitDecision tryConsume(Long accountId) {
+        try {
+            List<?> result = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+                List.of(key(accountId)),
+                String.valueOf(capacity), String.valueOf(refillPerSecond));
+            if (result == null || result.size() < 4) {
+                return RateLimitDecision.allowedWithoutLimit(capacity);
+            }
+            return new RateLimitDecision(
+                toLong(result.get(0)) == 1L,
+                toLong(result.get(1)),
+                toLong(result.get(2)),
+                toLong(result.get(3)));
+        } catch (DataAccessException e) {
+            log.warn("Rate limit check skipped for account {}", accountId, e);
+            return RateLimitDecision.allowedWithoutLimit(capacity);
+        }
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    private static String key(Long accountId) {
+        return "ratelimit:coupon:" + accountId;
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+}
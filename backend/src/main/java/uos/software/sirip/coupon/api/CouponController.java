@@ -1,16 +1,31 @@
 package uos.software.sirip.coupon.api;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import uos.software.sirip.config.security.CurrentUser;
+import uos.software.sirip.coupon.api.request.BulkRedeemRequest;
+import uos.software.sirip.coupon.api.request.RedeemTokenRequest;
+import uos.software.sirip.coupon.api.response.BulkRedeemResponse;
 import uos.software.sirip.coupon.api.response.CouponApplicationResponse;
 import uos.software.sirip.coupon.api.response.CouponResponse;
+import uos.software.sirip.coupon.api.response.IssuanceResultResponse;
+import uos.software.sirip.coupon.api.response.TokenRedemptionResponse;
 import uos.software.sirip.coupon.application.CouponApplicationResult;
 import uos.software.sirip.coupon.application.CouponApplicationService;
+import uos.software.sirip.coupon.application.CouponRedemptionService;
+import uos.software.sirip.coupon.application.CouponRedemptionService.ScannedCoupon;
 import uos.software.sirip.coupon.application.CouponSummary;
+import uos.software.sirip.coupon.application.CouponTokenRedemptionService;
+import uos.software.sirip.coupon.application.IssuanceResult;
+import uos.software.sirip.coupon.application.WaitingRoomService;
 
 @RestController
 @RequestMapping("/api")
@@ -18,19 +33,67 @@ import uos.software.sirip.coupon.application.CouponSummary;
 public class CouponController {
 
     private final CouponApplicationService couponApplicationService;
+    private final CouponRedemptionService couponRedemptionService;
+    private final CouponTokenRedemptionService couponTokenRedemptionService;
+    private final WaitingRoomService waitingRoomService;
+
+    private static final Duration RESULT_STREAM_TIMEOUT = Duration.ofSeconds(30);
 
     /**
-     * ✅ 로그인한 사용자(@CurrentUser) 기준으로 쿠폰 신청
+     * ✅ 로그인한 사용자(@CurrentUser) 기준으로 쿠폰 신청 (대기실 입장 토큰 필요)
      */
     @PostMapping("/events/{eventId}/coupons")
     @ResponseStatus(HttpStatus.CREATED)
     public CouponApplicationResponse apply(
         @CurrentUser Long accountId,
-        @PathVariable Long eventId) {
+        @PathVariable Long eventId,
+        @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken) {
+        waitingRoomService.verifyAdmission(accountId, eventId, admissionToken);
         CouponApplicationResult result = couponApplicationService.applyV2(accountId, eventId);
         return CouponApplicationResponse.from(result);
     }
 
+    /**
+     * ✅ 비동기 쿠폰 신청 (202, 결과는 requestId 로 조회하거나 SSE 로 수신)
+     */
+    @PostMapping("/events/{eventId}/coupons/requests")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public IssuanceResultResponse submitApply(
+        @CurrentUser Long accountId,
+        @PathVariable Long eventId,
+        @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken) {
+        waitingRoomService.verifyAdmission(accountId, eventId, admissionToken);
+        return IssuanceResultResponse.from(couponApplicationService.submitApply(accountId, eventId));
+    }
+
+    /**
+     * ✅ 비동기 신청 결과 조회 (처리 전이면 PENDING)
+     */
+    @GetMapping("/events/{eventId}/coupons/requests/{requestId}")
+    public IssuanceResultResponse applyResult(
+        @CurrentUser Long accountId,
+        @PathVariable Long eventId,
+        @PathVariable String requestId) {
+        return IssuanceResultResponse.from(
+            couponApplicationService.applyResult(accountId, eventId, requestId));
+    }
+
+    /**
+     * ✅ 비동기 신청 결과 스트리밍 (SSE, 결과가 나오면 한 번 보내고 종료)
+     */
+    @GetMapping(value = "/events/{eventId}/coupons/requests/{requestId}/stream",
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<IssuanceResultResponse> streamApplyResult(
+        @CurrentUser Long accountId,
+        @PathVariable Long eventId,
+        @PathVariable String requestId) {
+        // 타임아웃 · 연결 종료 시 future 를 취소하지 않는다 (결과는 조회 API 로 계속 볼 수 있어야 함)
+        return Mono.fromFuture(couponApplicationService.awaitApplyResult(accountId, requestId), true)
+            .timeout(RESULT_STREAM_TIMEOUT, Mono.just(IssuanceResult.pending(requestId, eventId)))
+            .map(IssuanceResultResponse::from)
+            .flux();
+    }
+
     /**
      * ✅ 쿠폰 사용 (USER 자신이 소유한 쿠폰만 가능하도록 service 내부에서 검증)
      */
@@ -42,6 +105,32 @@ public class CouponController {
         return CouponResponse.from(summary);
     }
 
+    /**
+     * ✅ 입장 스캐너 일괄 쿠폰 사용 (이벤트 주최자 본인 이벤트만, 같은 배치 재전송은 멱등)
+     */
+    @PostMapping("/coupons/redeem-batch")
+    public BulkRedeemResponse redeemBatch(
+        @CurrentUser Long accountId,
+        @RequestBody @Valid BulkRedeemRequest request) {
+        List<ScannedCoupon> scans = request.getItems().stream()
+            .map(item -> new ScannedCoupon(item.getCouponId(), item.getScannedAt()))
+            .toList();
+        return BulkRedeemResponse.from(couponRedemptionService.redeemBatch(
+            accountId, request.getScannerId(), request.getBatchId(), scans));
+    }
+
+    /**
+     * ✅ 서명 토큰으로 쿠폰 사용 (이벤트 주최자 본인 이벤트만, DB 조회 없이 검증, DB 상태는 비동기 반영)
+     */
+    @PostMapping("/events/{eventId}/coupons/redeem-token")
+    public TokenRedemptionResponse redeemToken(
+        @CurrentUser Long accountId,
+        @PathVariable Long eventId,
+        @RequestBody @Valid RedeemTokenRequest request) {
+        return TokenRedemptionResponse.from(
+            couponTokenRedemptionService.redeem(accountId, eventId, request.getToken()));
+    }
+
     /**
      * ✅ 노쇼 처리 (USER 본인 쿠폰만 가능하도록 검증)
      */
@@ -53,6 +142,17 @@ public class CouponController {
         return CouponResponse.from(summary);
     }
 
+    /**
+     * ✅ 쿠폰 취소 (본인 쿠폰만, 발급 쿠폰은 대기열 맨 앞 사용자에게 넘어감)
+     */
+    @PostMapping("/coupons/{couponId}/cancel")
+    public CouponResponse cancel(
+        @CurrentUser Long accountId,
+        @PathVariable Long couponId) {
+        CouponSummary summary = couponApplicationService.cancel(accountId, couponId);
+        return CouponResponse.from(summary);
+    }
+
     /**
      * ✅ 로그인한 사용자의 쿠폰 목록 조회
      */
@@ -0,0 +1,68 @@
+package uos.software.sirip.coupon.api;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import uos.software.sirip.config.security.CurrentUser;
+import uos.software.sirip.coupon.api.response.WaitingRoomResponse;
+import uos.software.sirip.coupon.application.WaitingRoomService;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private static final Duration MIN_STREAM_INTERVAL = Duration.ofMillis(500);
+    private static final Duration MAX_STREAM_INTERVAL = Duration.ofSeconds(5);
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * ✅ 대기실 입장 (번호표 발급, DB 조회 없음)
+     */
+    @PostMapping
+    public WaitingRoomResponse join(
+        @CurrentUser Long accountId,
+        @PathVariable Long eventId) {
+        return WaitingRoomResponse.from(waitingRoomService.join(accountId, eventId));
+    }
+
+    /**
+     * ✅ 내 순서 조회 (입장 허용 시 입장 토큰 포함)
+     */
+    @GetMapping
+    public WaitingRoomResponse status(
+        @CurrentUser Long accountId,
+        @PathVariable Long eventId) {
+        return WaitingRoomResponse.from(waitingRoomService.status(accountId, eventId));
+    }
+
+    /**
+     * ✅ 내 순서 스트리밍 (SSE, 입장 허용되면 토큰을 보내고 종료)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<WaitingRoomResponse> stream(
+        @CurrentUser Long accountId,
+        @PathVariable Long eventId) {
+        // 예상 대기 시간에 맞춰 조회 간격을 늘려 대기 인원이 많아도 Redis 호출이 몰리지 않게 한다
+        return Flux.defer(() -> Flux.just(waitingRoomService.status(accountId, eventId)))
+            .subscribeOn(Schedulers.boundedElastic())
+            .expand(previous -> previous.admitted()
+                ? Flux.empty()
+                : Flux.defer(() -> Flux.just(waitingRoomService.status(accountId, eventId)))
+                    .delaySubscription(nextInterval(previous.retryAfterMillis()))
+                    .subscribeOn(Schedulers.boundedElastic()))
+            .map(WaitingRoomResponse::from);
+    }
+
+    private static Duration nextInterval(long retryAfterMillis) {
+        Duration half = Duration.ofMillis(retryAfterMillis / 2);
+        if (half.compareTo(MIN_STREAM_INTERVAL) < 0) {
+            return MIN_STREAM_INTERVAL;
+        }
+        return half.compareTo(MAX_STREAM_INTERVAL) > 0 ? MAX_STREAM_INTERVAL : half;
+    }
+}
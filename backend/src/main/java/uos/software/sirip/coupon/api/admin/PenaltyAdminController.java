@@ -0,0 +1,32 @@
+package uos.software.sirip.coupon.api.admin;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uos.software.sirip.coupon.api.response.PenaltyResponse;
+import uos.software.sirip.coupon.application.PenaltyService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/accounts")
+public class PenaltyAdminController {
+
+    private final PenaltyService penaltyService;
+    private final Clock clock;
+
+    /**
+     * ✅ 계정 패널티 이력 조회 (최근 순, 관리자 전용 - SecurityConfig 의 /api/admin/** 규칙)
+     */
+    @GetMapping("/{accountId}/penalties")
+    public List<PenaltyResponse> penalties(@PathVariable Long accountId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return penaltyService.history(accountId).stream()
+            .map(penalty -> PenaltyResponse.from(penalty, now))
+            .toList();
+    }
+}
@@ -0,0 +1,34 @@
+package uos.software.sirip.coupon.api.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class BulkRedeemRequest {
+
+    // 스캐너 기기 식별자 + 기기가 매기는 배치 번호 (재전송 시 같은 값을 보낸다)
+    @NotBlank
+    private String scannerId;
+
+    @NotBlank
+    private String batchId;
+
+    @NotEmpty
+    @Valid
+    private List<Item> items;
+
+    @Getter
+    public static class Item {
+
+        @NotNull
+        private Long couponId;
+
+        // 오프라인 스캔 시각 (없으면 서버 수신 시각)
+        private LocalDateTime scannedAt;
+    }
+}
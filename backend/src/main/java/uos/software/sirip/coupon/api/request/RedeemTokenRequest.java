@@ -0,0 +1,11 @@
+package uos.software.sirip.coupon.api.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+
+@Getter
+public class RedeemTokenRequest {
+
+    @NotBlank
+    private String token;
+}
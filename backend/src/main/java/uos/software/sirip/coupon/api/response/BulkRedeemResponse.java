@@ -0,0 +1,32 @@
+package uos.software.sirip.coupon.api.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import uos.software.sirip.coupon.application.BulkRedeemResult;
+import uos.software.sirip.coupon.application.RedeemOutcome;
+
+public record BulkRedeemResponse(
+    String scannerId,
+    String batchId,
+    boolean replayed,
+    List<Item> items
+) {
+
+    public record Item(
+        Long couponId,
+        RedeemOutcome outcome,
+        LocalDateTime redeemedAt
+    ) {
+    }
+
+    public static BulkRedeemResponse from(BulkRedeemResult result) {
+        return new BulkRedeemResponse(
+            result.scannerId(),
+            result.batchId(),
+            result.replayed(),
+            result.items().stream()
+                .map(item -> new Item(item.couponId(), item.outcome(), item.redeemedAt()))
+                .toList()
+        );
+    }
+}
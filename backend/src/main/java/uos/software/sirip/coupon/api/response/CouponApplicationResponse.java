@@ -2,18 +2,26 @@ package uos.software.sirip.coupon.api.response;
 
 import uos.software.sirip.coupon.application.CouponApplicationResult;
 
+/**
+ * 쿠폰 신청 응답.
+ * persisted 가 false 이면 발급은 확정(노드 로컬 저널)됐지만 DB 반영 전이라 coupon.couponId 와
+ * coupon.token 이 null 이다. 반영(보통 1초 이내) 후 내 쿠폰 조회에서 id 와 토큰을 받는다.
+ */
 public class CouponApplicationResponse {
 
     private final CouponResponse coupon;
     private final boolean issuedImmediately;
+    private final boolean persisted;
 
-    public CouponApplicationResponse(CouponResponse coupon, boolean issuedImmediately) {
+    public CouponApplicationResponse(CouponResponse coupon, boolean issuedImmediately, boolean persisted) {
         this.coupon = coupon;
         this.issuedImmediately = issuedImmediately;
+        this.persisted = persisted;
     }
 
     public static CouponApplicationResponse from(CouponApplicationResult result) {
-        return new CouponApplicationResponse(CouponResponse.from(result.getCoupon()), result.isIssuedImmediately());
+        return new CouponApplicationResponse(CouponResponse.from(result.getCoupon()),
+            result.isIssuedImmediately(), result.isPersisted());
     }
 
     public CouponResponse getCoupon() {
@@ -23,4 +31,8 @@ public class CouponApplicationResponse {
     public boolean isIssuedImmediately() {
         return issuedImmediately;
     }
+
+    public boolean isPersisted() {
+        return persisted;
+    }
 }
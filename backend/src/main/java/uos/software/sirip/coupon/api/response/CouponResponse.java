@@ -15,6 +15,9 @@ public class CouponResponse {
     private final LocalDateTime issuedAt;
     private final LocalDateTime redeemedAt;
     private final LocalDateTime noShowAt;
+    private final LocalDateTime cancelledAt;
+    private final String token;
+    private final String code;
 
     public CouponResponse(
         Long couponId,
@@ -25,7 +28,10 @@ public class CouponResponse {
         LocalDateTime appliedAt,
         LocalDateTime issuedAt,
         LocalDateTime redeemedAt,
-        LocalDateTime noShowAt
+        LocalDateTime noShowAt,
+        LocalDateTime cancelledAt,
+        String token,
+        String code
     ) {
         this.couponId = couponId;
         this.eventId = eventId;
@@ -36,6 +42,9 @@ public class CouponResponse {
         this.issuedAt = issuedAt;
         this.redeemedAt = redeemedAt;
         this.noShowAt = noShowAt;
+        this.cancelledAt = cancelledAt;
+        this.token = token;
+        this.code = code;
     }
 
     public static CouponResponse from(CouponSummary summary) {
@@ -48,7 +57,10 @@ public class CouponResponse {
             summary.getAppliedAt(),
             summary.getIssuedAt(),
             summary.getRedeemedAt(),
-            summary.getNoShowAt()
+            summary.getNoShowAt(),
+            summary.getCancelledAt(),
+            summary.getToken(),
+            summary.getCode()
         );
     }
 
@@ -87,4 +99,16 @@ public class CouponResponse {
     public LocalDateTime getNoShowAt() {
         return noShowAt;
     }
+
+    public LocalDateTime getCancelledAt() {
+        return cancelledAt;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getCode() {
+        return code;
+    }
 }
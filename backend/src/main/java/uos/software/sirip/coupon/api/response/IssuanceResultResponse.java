@@ -0,0 +1,28 @@
+package uos.software.sirip.coupon.api.response;
+
+import java.time.LocalDateTime;
+import uos.software.sirip.coupon.application.IssuanceResult;
+
+/**
+ * 비동기 신청 결과. ISSUED 인데 couponId 가 null 이면 저널로 확정되어 DB 반영 전인 발급이다
+ * (반영 후 내 쿠폰 조회에서 id 와 토큰을 받는다).
+ */
+public record IssuanceResultResponse(
+    String requestId,
+    Long eventId,
+    String status,
+    boolean finished,
+    Long couponId,
+    LocalDateTime issuedAt
+) {
+    public static IssuanceResultResponse from(IssuanceResult result) {
+        return new IssuanceResultResponse(
+            result.requestId(),
+            result.eventId(),
+            result.status().name(),
+            result.status().isFinished(),
+            result.couponId(),
+            result.issuedAt()
+        );
+    }
+}
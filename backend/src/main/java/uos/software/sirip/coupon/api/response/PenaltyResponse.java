@@ -0,0 +1,22 @@
+package uos.software.sirip.coupon.api.response;
+
+import java.time.LocalDateTime;
+import uos.software.sirip.coupon.domain.Penalty;
+
+public record PenaltyResponse(
+    Long penaltyId,
+    Long accountId,
+    LocalDateTime startsAt,
+    LocalDateTime endsAt,
+    boolean active
+) {
+    public static PenaltyResponse from(Penalty penalty, LocalDateTime now) {
+        return new PenaltyResponse(
+            penalty.getId(),
+            penalty.getAccountId(),
+            penalty.getStartsAt(),
+            penalty.getEndsAt(),
+            penalty.isActive(now)
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package uos.software.sirip.coupon.api.response;
+
+import java.time.LocalDateTime;
+import uos.software.sirip.coupon.application.TokenRedemptionResult;
+
+public record TokenRedemptionResponse(
+    Long couponId,
+    Long eventId,
+    Long accountId,
+    LocalDateTime redeemedAt
+) {
+    public static TokenRedemptionResponse from(TokenRedemptionResult result) {
+        return new TokenRedemptionResponse(
+            result.couponId(),
+            result.eventId(),
+            result.accountId(),
+            result.redeemedAt()
+        );
+    }
+}
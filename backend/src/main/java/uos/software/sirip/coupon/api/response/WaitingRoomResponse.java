@@ -0,0 +1,26 @@
+package uos.software.sirip.coupon.api.response;
+
+import java.time.Instant;
+import uos.software.sirip.coupon.application.WaitingRoomStatus;
+
+public record WaitingRoomResponse(
+    Long eventId,
+    long ticket,
+    long position,
+    boolean admitted,
+    String admissionToken,
+    Instant admissionExpiresAt,
+    long retryAfterMillis
+) {
+    public static WaitingRoomResponse from(WaitingRoomStatus status) {
+        return new WaitingRoomResponse(
+            status.eventId(),
+            status.ticket(),
+            status.position(),
+            status.admitted(),
+            status.admissionToken(),
+            status.admissionExpiresAt(),
+            status.retryAfterMillis()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BulkRedeemResult(
+    String scannerId,
+    String batchId,
+    boolean replayed,
+    List<Item> items
+) {
+
+    public record Item(
+        Long couponId,
+        RedeemOutcome outcome,
+        LocalDateTime redeemedAt
+    ) {
+    }
+
+    public BulkRedeemResult asReplay() {
+        return new BulkRedeemResult(scannerId, batchId, true, items);
+    }
+}
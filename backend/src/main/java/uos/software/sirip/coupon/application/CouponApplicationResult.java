@@ -4,18 +4,27 @@ public class CouponApplicationResult {
 
     private final CouponSummary coupon;
     private final boolean issuedImmediately;
+    private final boolean persisted;
 
-    public CouponApplicationResult(CouponSummary coupon, boolean issuedImmediately) {
+    public CouponApplicationResult(CouponSummary coupon, boolean issuedImmediately, boolean persisted) {
         this.coupon = coupon;
         this.issuedImmediately = issuedImmediately;
+        this.persisted = persisted;
     }
 
     public static CouponApplicationResult issued(CouponSummary coupon) {
-        return new CouponApplicationResult(coupon, true);
+        return new CouponApplicationResult(coupon, true, true);
+    }
+
+    /**
+     * 로컬 저널로 발급이 확정됐지만 아직 DB 에 반영되지 않음 (쿠폰 id · 토큰 없음)
+     */
+    public static CouponApplicationResult journaled(CouponSummary coupon) {
+        return new CouponApplicationResult(coupon, true, false);
     }
 
     public static CouponApplicationResult queued(CouponSummary coupon) {
-        return new CouponApplicationResult(coupon, false);
+        return new CouponApplicationResult(coupon, false, true);
     }
 
     public CouponSummary getCoupon() {
@@ -25,4 +34,8 @@ public class CouponApplicationResult {
     public boolean isIssuedImmediately() {
         return issuedImmediately;
     }
+
+    public boolean isPersisted() {
+        return persisted;
+    }
 }
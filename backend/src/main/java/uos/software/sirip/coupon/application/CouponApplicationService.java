@@ -1,17 +1,37 @@
 package uos.software.sirip.coupon.application;
 
+import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uos.software.sirip.config.datasource.ReadYourWritesGuard;
+import uos.software.sirip.coupon.domain.CouponChangeType;
+import uos.software.sirip.coupon.application.IssuanceResult.Status;
 import uos.software.sirip.coupon.domain.CouponStatus;
 import uos.software.sirip.coupon.exception.*;
 import uos.software.sirip.coupon.domain.CouponJpaEntity;
 import uos.software.sirip.coupon.domain.CouponJpaRepository;
+import uos.software.sirip.coupon.infra.journal.IssuanceJournal;
+import uos.software.sirip.coupon.infra.redis.ApplyOutcome;
+import uos.software.sirip.coupon.infra.redis.PoolClaim;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+import uos.software.sirip.coupon.infra.redis.RedisRedemptionLedger;
+import uos.software.sirip.coupon.infra.token.CouponTokenClaims;
+import uos.software.sirip.coupon.infra.token.CouponTokenCodec;
 import uos.software.sirip.event.exception.EventNotFoundException;
 import uos.software.sirip.event.infra.jpa.Event;
 import uos.software.sirip.event.infra.jpa.EventJpaRepository;
@@ -23,13 +43,37 @@ import uos.software.sirip.user.domain.AuthService;
 @Transactional
 public class CouponApplicationService {
 
-    private static final int PENALTY_MONTHS = 6;
+    private static final String LOCK_WAITING_SQL = """
+        SELECT id, account_id, queue_position FROM coupons
+        WHERE event_id = :eventId AND status = 'WAITING'
+        ORDER BY queue_position
+        LIMIT :slots
+        FOR UPDATE
+        """;
+    private static final String PROMOTE_SQL = """
+        UPDATE coupons SET status = 'ISSUED', issued_at = :issuedAt, queue_position = NULL
+        WHERE id IN (:ids) AND status = 'WAITING'
+        """;
+    private static final String SHIFT_QUEUE_SQL = """
+        UPDATE coupons SET queue_position = queue_position - :shift
+        WHERE event_id = :eventId AND status = 'WAITING'
+        """;
 
     private final CouponJpaRepository couponJpaRepository;
     private final EventJpaRepository eventJpaRepository;
     private final Clock clock;
     private final AuthService authService;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCouponStock redisCouponStock;
+    private final RedisRedemptionLedger redisRedemptionLedger;
+    private final CouponTokenCodec couponTokenCodec;
+    private final PenaltyService penaltyService;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final CouponOutbox couponOutbox;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final IssuanceEngine issuanceEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final IssuanceJournal issuanceJournal;
+    private final CouponPool couponPool;
 
     /**
      * ✅ 쿠폰 신청
@@ -38,7 +82,7 @@ public class CouponApplicationService {
         LocalDateTime now = LocalDateTime.now(clock);
         Account account = authService.getAccount(accountId);
 
-        if (account.getPenalty()) {
+        if (penaltyService.isPenalized(accountId)) {
             throw new ActivePenaltyException(accountId);
         }
 
@@ -66,26 +110,32 @@ public class CouponApplicationService {
         if (event.getRemainingCoupons() > 0) {
             CouponJpaEntity issued = CouponJpaEntity.issued(event, account, now, now);
             saved = couponJpaRepository.save(issued);
+            couponOutbox.append(saved, CouponChangeType.ISSUED, now);
             event.decrementRemaining();
             eventJpaRepository.save(event);
-            return CouponApplicationResult.issued(CouponSummary.from(saved));
+            readYourWritesGuard.markWritten(accountId);
+            return CouponApplicationResult.issued(toSummary(saved));
         }
 
         int queuePosition =
-            couponJpaRepository.countByEventIdAndStatus(eventId, CouponStatus.WAITING) + 1;
+            couponJpaRepository.findMaxQueuePosition(eventId, CouponStatus.WAITING) + 1;
         CouponJpaEntity waiting = CouponJpaEntity.waiting(event, account, now, queuePosition);
         saved = couponJpaRepository.save(waiting);
+        readYourWritesGuard.markWritten(accountId);
         return CouponApplicationResult.queued(CouponSummary.from(saved));
     }
 
     /**
      * ✅ 쿠폰 신청 (대기열 제거, Redis 기반 초고속 발급)
+     * 저널 발급은 fsync 를 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 처리하고,
+     * DB 에 기록하는 경우(풀 배정, 저널 꺼짐 · 가득 참)만 트랜잭션을 연다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CouponApplicationResult applyV2(Long accountId, Long eventId) {
         LocalDateTime now = LocalDateTime.now(clock);
         Account account = authService.getAccount(accountId);
 
-        if (Boolean.TRUE.equals(account.getPenalty())) {
+        if (penaltyService.isPenalized(accountId)) {
             throw new ActivePenaltyException(accountId);
         }
 
@@ -96,54 +146,212 @@ public class CouponApplicationService {
             throw new EventClosedException(eventId);
         }
 
-        // 1️⃣ Redis SET으로 중복 신청 방지
-        String appliedKey = buildAppliedKey(eventId);
-        Long added = stringRedisTemplate.opsForSet()
-            .add(appliedKey, accountId.toString());
-
-        // added == 0 이면 이미 존재(중복 신청)
-        if (added != null && added == 0L) {
-            throw new DuplicateApplicationException(accountId, eventId);
+        // 쿠폰 풀 이벤트는 미리 만든 쿠폰을 꺼내 배정
+        if (event.isPreMinted()) {
+            return transactionTemplate.execute(status -> applyFromPool(account, event, now));
+        }
+        if (!issuanceJournal.isEnabled()) {
+            return transactionTemplate.execute(status -> {
+                claimStock(event, accountId);
+                releaseOnRollback(eventId, event.stripeCount(), accountId);
+                return issueToDatabase(account, event, now);
+            });
         }
 
-        // 2️⃣ Redis DECR로 남은 수량 원자 감소
-        String remainKey = buildRemainKey(eventId);
-        Long remain = stringRedisTemplate.opsForValue()
-            .decrement(remainKey);
-        System.out.println(remain);
-        if (remain == null) {
-            // 설정 안 되어 있거나 Redis 문제인 경우 → 운영 정책에 맞게 처리
-            // 여기서는 시스템 오류로 처리
-            // 중복 SET 롤백
-            stringRedisTemplate.opsForSet().remove(appliedKey, accountId.toString());
-            throw new IllegalStateException("쿠폰 잔여 수량이 설정되어 있지 않습니다. eventId=" + eventId);
+        // 1️⃣ 중복 확인 + 재고 차감 (Lua 스크립트로 원자 처리)
+        claimStock(event, accountId);
+
+        // 2️⃣ 로컬 디스크 기록(그룹 커밋)으로 발급 확정, DB 는 재생기가 뒤에서 반영
+        //    (쿠폰 id 와 사용 토큰은 반영 후 내 쿠폰 조회에서 확인)
+        LocalDateTime issuedAt = now.truncatedTo(ChronoUnit.MICROS);
+        boolean journaled;
+        try {
+            journaled = issuanceJournal.append(eventId, accountId, issuedAt);
+        } catch (RuntimeException e) {
+            redisCouponStock.release(eventId, event.stripeCount(), accountId);
+            throw e;
+        }
+        if (journaled) {
+            return CouponApplicationResult.journaled(
+                toSummary(CouponJpaEntity.issued(event, account, issuedAt, issuedAt)));
         }
 
-        if (remain < 0) {
-            // 수량 소진 상태 → 롤백
-            stringRedisTemplate.opsForValue().increment(remainKey);              // DECR 롤백
-            stringRedisTemplate.opsForSet().remove(appliedKey, accountId.toString()); // 중복 신청 세트 롤백
-            throw new CouponSoldOutException(eventId);
+        // 3️⃣ 저널이 가득 차면 DB 에 바로 기록
+        return transactionTemplate.execute(status -> {
+            releaseOnRollback(eventId, event.stripeCount(), accountId);
+            return issueToDatabase(account, event, now);
+        });
+    }
+
+    /**
+     * ✅ Redis 에서 중복 확인 + 재고 차감 (실패 사유는 예외로)
+     */
+    private void claimStock(Event event, Long accountId) {
+        Long eventId = event.getId();
+        ApplyOutcome outcome = redisCouponStock.tryApply(eventId, event.stripeCount(), accountId);
+        switch (outcome) {
+            case DUPLICATE -> throw new DuplicateApplicationException(accountId, eventId);
+            case SOLD_OUT -> throw new CouponSoldOutException(eventId);
+            case NOT_INITIALIZED -> throw new IllegalStateException(
+                "쿠폰 잔여 수량이 설정되어 있지 않습니다. eventId=" + eventId);
+            case ISSUED -> {
+            }
         }
+    }
 
-        // 3️⃣ 실제 쿠폰 발급 (DB 기록)
+    /**
+     * ✅ 실제 쿠폰 발급 (DB 기록)
+     */
+    private CouponApplicationResult issueToDatabase(Account account, Event event, LocalDateTime now) {
+        Long accountId = account.getAccountId();
         CouponJpaEntity issued = CouponJpaEntity.issued(event, account, now, now);
         CouponJpaEntity saved = couponJpaRepository.save(issued);
+        couponOutbox.append(saved, CouponChangeType.ISSUED, now);
+        // 직후 내 쿠폰 조회가 복제 지연으로 비어 보이지 않도록 잠시 primary 에서 읽기
+        readYourWritesGuard.markWritten(accountId);
 
         // (선택) Event 엔티티의 remainingCoupons 필드는
         // 이제 진실의 근원이 아니면, 업데이트 하지 않거나, 배치/동기화용으로만 사용
         // event.decrementRemaining();
         // eventJpaRepository.save(event);
 
-        return CouponApplicationResult.issued(CouponSummary.from(saved));
+        return CouponApplicationResult.issued(toSummary(saved));
+    }
+
+    /**
+     * ✅ 쿠폰 풀에서 id 하나를 꺼내(Lua 로 중복 확인과 함께) 계정을 배정하는 UPDATE 한 번으로 발급
+     */
+    private CouponApplicationResult applyFromPool(Account account, Event event, LocalDateTime now) {
+        Long accountId = account.getAccountId();
+        Long eventId = event.getId();
+        PoolClaim claim = redisCouponStock.takeFromPool(eventId, accountId);
+        switch (claim.outcome()) {
+            case DUPLICATE -> throw new DuplicateApplicationException(accountId, eventId);
+            case SOLD_OUT -> throw new CouponSoldOutException(eventId);
+            case NOT_INITIALIZED -> throw new IllegalStateException(
+                "쿠폰 잔여 수량이 설정되어 있지 않습니다. eventId=" + eventId);
+            case ISSUED -> releaseToPoolOnRollback(eventId, accountId, claim.couponId());
+        }
+
+        Long couponId = claim.couponId();
+        if (!couponPool.assign(couponId, accountId, now)) {
+            throw new IllegalStateException("이미 배정된 풀 쿠폰입니다. couponId=" + couponId);
+        }
+        CouponJpaEntity assigned = couponJpaRepository.findById(couponId)
+            .orElseThrow(() -> new CouponNotFoundException(couponId));
+        couponOutbox.append(assigned, CouponChangeType.ISSUED, now);
+        readYourWritesGuard.markWritten(accountId);
+        return CouponApplicationResult.issued(toSummary(assigned));
+    }
+
+    /**
+     * ✅ 비동기 신청: 발급 엔진이 켜져 있으면 이벤트 작성기 링에 넣고 바로 반환 (결과는 조회/SSE)
+     * 엔진을 끄면 applyV2 로 바로 처리한 결과를 같은 형태로 돌려준다.
+     * 요청 스레드에서는 트랜잭션을 열지 않는다 (DB 작업은 작성기가 배치로).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public IssuanceResult submitApply(Long accountId, Long eventId) {
+        if (penaltyService.isPenalized(accountId)) {
+            throw new ActivePenaltyException(accountId);
+        }
+        Event event = eventJpaRepository.findById(eventId)
+            .orElseThrow(() -> new EventNotFoundException(eventId));
+        // 쿠폰 풀 이벤트는 배정 UPDATE 가 가벼우므로 엔진을 거치지 않는다
+        // (Redis 풀 목록은 비거나 만료되면 사라지므로 저장된 플래그로 판단)
+        if (issuanceEngine.isEnabled() && !event.isPreMinted()) {
+            return issuanceEngine.submit(accountId, eventId);
+        }
+
+        try {
+            CouponApplicationResult result = applyV2(accountId, eventId);
+            CouponSummary coupon = result.getCoupon();
+            return issuanceEngine.completed(accountId, eventId, Status.ISSUED,
+                coupon.getCouponId(), coupon.getIssuedAt());
+        } catch (DuplicateApplicationException e) {
+            return issuanceEngine.completed(accountId, eventId, Status.DUPLICATE, null, null);
+        } catch (CouponSoldOutException e) {
+            return issuanceEngine.completed(accountId, eventId, Status.SOLD_OUT, null, null);
+        } catch (EventClosedException e) {
+            return issuanceEngine.completed(accountId, eventId, Status.CLOSED, null, null);
+        }
+    }
+
+    /**
+     * ✅ 비동기 신청 결과 조회 (본인 요청만)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public IssuanceResult applyResult(Long accountId, Long eventId, String requestId) {
+        return issuanceEngine.result(accountId, eventId, requestId);
+    }
+
+    /**
+     * ✅ 비동기 신청 결과가 나오면 완료 (SSE 용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<IssuanceResult> awaitApplyResult(Long accountId, String requestId) {
+        return issuanceEngine.awaitResult(accountId, requestId);
+    }
+
+    /**
+     * ✅ 워밍업용 신청 경로 실행: applyV2 가 부르는 패널티 확인 · 이벤트 조회 · Lua 스크립트 · 토큰 발급을
+     * 그대로 돌리되, 재고는 그림자 이벤트 키(shadowEventId)에서 차감했다가 되돌리고 DB 에는 기록하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String warmUpApply(Long eventId, Long shadowEventId, Long accountId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        penaltyService.isPenalized(accountId);
+        Event event = eventJpaRepository.findById(eventId)
+            .orElseThrow(() -> new EventNotFoundException(eventId));
+        event.isActive(now);
+
+        Long couponId = accountId;
+        if (event.isPreMinted()) {
+            PoolClaim claim = redisCouponStock.takeFromPool(shadowEventId, accountId);
+            if (claim.outcome() == ApplyOutcome.ISSUED) {
+                couponId = claim.couponId();
+                redisCouponStock.releaseToPool(shadowEventId, accountId, couponId);
+            }
+        } else if (redisCouponStock.tryApply(shadowEventId, event.stripeCount(), accountId)
+            == ApplyOutcome.ISSUED) {
+            redisCouponStock.release(shadowEventId, event.stripeCount(), accountId);
+        }
+
+        return couponTokenCodec.encode(new CouponTokenClaims(couponId, eventId, accountId,
+            now.atZone(clock.getZone()).toInstant()));
     }
 
-    private String buildRemainKey(Long eventId) {
-        return "coupon:" + eventId + ":remain";
+    /**
+     * ✅ 배정이 롤백되면 신청 기록을 지우고 꺼낸 쿠폰 id 를 풀에 되돌린다.
+     */
+    private void releaseToPoolOnRollback(Long eventId, Long accountId, Long couponId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisCouponStock.releaseToPool(eventId, accountId, couponId);
+                }
+            }
+        });
     }
 
-    private String buildAppliedKey(Long eventId) {
-        return "coupon:" + eventId + ":applied";
+    /**
+     * ✅ DB 기록이 롤백되면 Redis 에서 선점한 재고와 신청 기록을 되돌린다.
+     */
+    private void releaseOnRollback(Long eventId, int stripes, Long accountId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisCouponStock.release(eventId, stripes, accountId);
+                }
+            }
+        });
     }
 
     /**
@@ -158,7 +366,9 @@ public class CouponApplicationService {
             throw new InvalidCouponStateException("Coupon must be issued to redeem");
         }
 
+        claimRedemption(couponId);
         coupon.redeem(now);
+        couponOutbox.append(coupon, CouponChangeType.REDEEMED, now);
         return CouponSummary.from(couponJpaRepository.save(coupon));
     }
 
@@ -173,9 +383,11 @@ public class CouponApplicationService {
         if (!coupon.getStatus().isIssued()) {
             throw new InvalidCouponStateException("Only issued coupons can be marked as no-show");
         }
+        claimRedemption(couponId);
 
         coupon.markNoShow(now);
         couponJpaRepository.save(coupon);
+        couponOutbox.append(coupon, CouponChangeType.NO_SHOW, now);
 
         Event event = eventJpaRepository.findById(coupon.getEvent().getId())
             .orElseThrow(() -> new EventNotFoundException(coupon.getEvent().getId()));
@@ -183,12 +395,81 @@ public class CouponApplicationService {
         event.incrementRemaining();
         eventJpaRepository.save(event);
 
-        Account account = authService.getAccount(accountId);
-        account.registerPenalty();
+        // 패널티는 요청자가 아니라 쿠폰 소유자에게 부여
+        penaltyService.impose(coupon.getAccount().getAccountId(), couponId);
         promoteNextWaiting(event);
         return CouponSummary.from(coupon);
     }
 
+    /**
+     * ✅ 쿠폰 취소 (본인 쿠폰, 발급 또는 대기 상태만)
+     * 발급 쿠폰이면 대기열 맨 앞 한 명에게 바로 넘기고, 대기자가 없으면 재고로 돌려준다.
+     */
+    public CouponSummary cancel(Long accountId, Long couponId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        CouponJpaEntity coupon = couponJpaRepository.findById(couponId)
+            .orElseThrow(() -> new CouponNotFoundException(couponId));
+        if (!coupon.getAccount().getAccountId().equals(accountId)) {
+            throw new SecurityException("본인 쿠폰만 취소할 수 있습니다.");
+        }
+
+        CouponStatus previous = coupon.getStatus();
+        if (!previous.isIssued() && !previous.isWaiting()) {
+            throw new InvalidCouponStateException("Only issued or waiting coupons can be cancelled");
+        }
+        Event event = coupon.getEvent();
+        Long eventId = event.getId();
+        int stripes = event.stripeCount();
+
+        if (previous.isIssued()) {
+            // 취소된 쿠폰의 토큰으로 사용하지 못하도록 사용 비트 선점
+            claimRedemption(couponId);
+        }
+        if (couponJpaRepository.cancel(couponId, previous, CouponStatus.CANCELLED, now) == 0) {
+            throw new InvalidCouponStateException("Coupon state changed while cancelling");
+        }
+        couponOutbox.appendAll(CouponChangeType.CANCELLED, List.of(couponId));
+        readYourWritesGuard.markWritten(accountId);
+
+        if (previous.isIssued()) {
+            Long waiterAccountId = promoteWaitlistHead(eventId, now);
+            // 돌아온 재고는 Redis 에만 되돌린다 (DB 기준 잔여량은 CANCELLED 를 빼고 다시 세므로 따로 더하지 않음)
+            if (waiterAccountId == null && event.isPreMinted()) {
+                // 취소된 쿠폰은 그대로 두고, 돌아온 재고만큼 새 쿠폰을 풀에 채운다
+                couponPool.mint(eventId, 1);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisCouponStock.cancel(eventId, stripes, accountId, waiterAccountId);
+                }
+            });
+        }
+
+        CouponJpaEntity cancelled = couponJpaRepository.findById(couponId)
+            .orElseThrow(() -> new CouponNotFoundException(couponId));
+        return CouponSummary.from(cancelled);
+    }
+
+    /**
+     * 대기열 맨 앞 한 명만 승급 (인덱스 범위 조회 1건, 나머지 순번은 그대로 둔다)
+     */
+    private Long promoteWaitlistHead(Long eventId, LocalDateTime now) {
+        List<long[]> head = namedParameterJdbcTemplate.query(LOCK_WAITING_SQL,
+            new MapSqlParameterSource("eventId", eventId).addValue("slots", 1),
+            (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("account_id")});
+        if (head.isEmpty()) {
+            return null;
+        }
+
+        List<Long> promoted = List.of(head.get(0)[0]);
+        namedParameterJdbcTemplate.update(PROMOTE_SQL,
+            new MapSqlParameterSource("ids", promoted)
+                .addValue("issuedAt", Timestamp.valueOf(now)));
+        couponOutbox.appendAll(CouponChangeType.PROMOTED, promoted);
+        return head.get(0)[1];
+    }
+
     /**
      * ✅ 사용자 쿠폰 목록 조회
      */
@@ -196,10 +477,87 @@ public class CouponApplicationService {
     public List<CouponSummary> listUserCoupons(Long accountId) {
         Account account = authService.getAccount(accountId);
         return couponJpaRepository.findByAccountOrderByAppliedAtDesc(account).stream()
-            .map(CouponSummary::from)
+            .map(this::toSummary)
             .collect(Collectors.toList());
     }
 
+    /**
+     * ✅ 발급 상태 쿠폰에는 DB 조회 없이 검증 가능한 사용 토큰을 붙인다.
+     */
+    private CouponSummary toSummary(CouponJpaEntity coupon) {
+        CouponSummary summary = CouponSummary.from(coupon);
+        if (coupon.getId() == null || !coupon.getStatus().isIssued()) {
+            return summary;
+        }
+        String token = couponTokenCodec.encode(new CouponTokenClaims(
+            coupon.getId(),
+            coupon.getEvent().getId(),
+            coupon.getAccount().getAccountId(),
+            coupon.getIssuedAt().atZone(clock.getZone()).toInstant()));
+        return summary.withToken(token);
+    }
+
+    /**
+     * ✅ 토큰 사용과 겹치지 않도록 사용 비트를 선점 (롤백 시 해제)
+     */
+    private void claimRedemption(Long couponId) {
+        Set<Long> alreadyClaimed = redisRedemptionLedger.claim(List.of(couponId));
+        if (!alreadyClaimed.isEmpty()) {
+            throw new InvalidCouponStateException("Coupon already redeemed");
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisRedemptionLedger.unclaim(List.of(couponId));
+                }
+            }
+        });
+    }
+
+    /**
+     * ✅ 대기열 일괄 승급: 앞에서부터 slots 명을 한 번에 발급하고 남은 순번을 한 번에 당긴다.
+     * 승급한 인원 수를 돌려준다 (Redis 재고는 호출 측에서 나머지만 늘린다).
+     */
+    public int fillWaitlist(Long eventId, int stripes, int slots) {
+        if (slots <= 0) {
+            return 0;
+        }
+
+        List<Long> couponIds = new ArrayList<>();
+        List<Long> accountIds = new ArrayList<>();
+        int[] lastPosition = {0};
+        namedParameterJdbcTemplate.query(LOCK_WAITING_SQL,
+            new MapSqlParameterSource("eventId", eventId).addValue("slots", slots),
+            rs -> {
+                couponIds.add(rs.getLong("id"));
+                accountIds.add(rs.getLong("account_id"));
+                lastPosition[0] = Math.max(lastPosition[0], rs.getInt("queue_position"));
+            });
+        if (couponIds.isEmpty()) {
+            return 0;
+        }
+
+        namedParameterJdbcTemplate.update(PROMOTE_SQL,
+            new MapSqlParameterSource("ids", couponIds)
+                .addValue("issuedAt", Timestamp.valueOf(LocalDateTime.now(clock))));
+        couponOutbox.appendAll(CouponChangeType.PROMOTED, couponIds);
+        namedParameterJdbcTemplate.update(SHIFT_QUEUE_SQL,
+            new MapSqlParameterSource("eventId", eventId).addValue("shift", lastPosition[0]));
+
+        // 승급된 계정이 Redis 신청 경로로 다시 신청하지 못하도록 커밋 후 기록
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisCouponStock.recordApplicants(eventId, stripes, accountIds);
+            }
+        });
+        return couponIds.size();
+    }
+
     /**
      * ✅ 대기열 쿠폰 승급
      */
@@ -221,6 +579,7 @@ public class CouponApplicationService {
             }
             waiting.promoteFromWaitlist(now);
             couponJpaRepository.save(waiting);
+            couponOutbox.append(waiting, CouponChangeType.PROMOTED, now);
             event.decrementRemaining();
             eventJpaRepository.save(event);
             promotedCount++;
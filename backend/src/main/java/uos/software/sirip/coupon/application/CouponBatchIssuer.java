@@ -0,0 +1,134 @@
+package uos.software.sirip.coupon.application;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uos.software.sirip.coupon.domain.CouponChangeType;
+import uos.software.sirip.coupon.infra.journal.JournalEntry;
+import uos.software.sirip.event.exception.EventNotFoundException;
+import uos.software.sirip.event.infra.jpa.Event;
+import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+
+/**
+ * 발급 엔진의 DB/Redis 작업. 이벤트 작성기와 저널 재생기가 배치 단위로 호출한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CouponBatchIssuer {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO coupons (event_id, account_id, status, applied_at, issued_at)
+        VALUES (:eventId, :accountId, 'ISSUED', :appliedAt, :issuedAt)
+        """;
+    private static final String ISSUED_IDS_SQL = """
+        SELECT id, account_id FROM coupons
+        WHERE event_id = :eventId AND account_id IN (:accountIds) AND status = 'ISSUED'
+          AND issued_at = :issuedAt
+        ORDER BY id
+        """;
+    // 같은 기록을 다시 반영해도 한 번만 들어가도록 (계정 · 이벤트 · 신청 시각이 같으면 같은 발급)
+    private static final String REPLAY_INSERT_SQL = """
+        INSERT INTO coupons (event_id, account_id, status, applied_at, issued_at)
+        SELECT :eventId, :accountId, 'ISSUED', :issuedAt, :issuedAt FROM DUAL
+        WHERE NOT EXISTS (
+            SELECT 1 FROM coupons
+            WHERE event_id = :eventId AND account_id = :accountId AND applied_at = :issuedAt
+        )
+        """;
+    private static final String REPLAYED_IDS_SQL = """
+        SELECT id, account_id, applied_at FROM coupons
+        WHERE event_id = :eventId AND account_id IN (:accountIds) AND status = 'ISSUED'
+        """;
+
+    private final EventJpaRepository eventJpaRepository;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final CouponOutbox couponOutbox;
+
+    /**
+     * ✅ 작성기 시작 시 한 번: 이벤트 기간 · 재고 분할 수 (없는 이벤트면 404)
+     */
+    @Transactional(readOnly = true)
+    public EventSnapshot load(Long eventId) {
+        Event event = eventJpaRepository.findById(eventId)
+            .orElseThrow(() -> new EventNotFoundException(eventId));
+        return new EventSnapshot(event.getStartAt(), event.getEndAt(), event.stripeCount());
+    }
+
+    /**
+     * ✅ 한 배치의 발급을 INSERT 한 번(배치)으로 기록하고 accountId → couponId 를 돌려준다.
+     * Redis 신청 기록과 재고는 작성기가 판정할 때 이미 선점했다.
+     */
+    public Map<Long, Long> issue(Long eventId, List<Long> accountIds, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        SqlParameterSource[] rows = accountIds.stream()
+            .map(accountId -> new MapSqlParameterSource("eventId", eventId)
+                .addValue("accountId", accountId)
+                .addValue("appliedAt", timestamp)
+                .addValue("issuedAt", timestamp))
+            .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        Map<Long, Long> couponByAccount = new HashMap<>();
+        namedParameterJdbcTemplate.query(ISSUED_IDS_SQL, new MapSqlParameterSource("eventId", eventId)
+                .addValue("accountIds", accountIds)
+                .addValue("issuedAt", timestamp),
+            rs -> {
+                couponByAccount.put(rs.getLong("account_id"), rs.getLong("id"));
+            });
+        couponOutbox.appendAll(CouponChangeType.ISSUED, couponByAccount.values());
+        return couponByAccount;
+    }
+
+    /**
+     * ✅ 저널에 기록된 발급을 DB 에 반영하고 새로 들어간 쿠폰만 아웃박스에 남긴다.
+     * Redis 신청 기록과 재고는 저널 기록 전에 이미 반영되어 있다.
+     */
+    public int replay(List<JournalEntry> entries) {
+        SqlParameterSource[] rows = entries.stream()
+            .map(entry -> new MapSqlParameterSource("eventId", entry.eventId())
+                .addValue("accountId", entry.accountId())
+                .addValue("issuedAt", Timestamp.valueOf(entry.issuedAt())))
+            .toArray(SqlParameterSource[]::new);
+        int[] inserted = namedParameterJdbcTemplate.batchUpdate(REPLAY_INSERT_SQL, rows);
+
+        Map<Long, Map<Long, LocalDateTime>> insertedByEvent = new HashMap<>();
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] != 0) {
+                JournalEntry entry = entries.get(i);
+                insertedByEvent.computeIfAbsent(entry.eventId(), eventId -> new HashMap<>())
+                    .put(entry.accountId(), entry.issuedAt());
+            }
+        }
+
+        List<Long> couponIds = new ArrayList<>();
+        insertedByEvent.forEach((eventId, issuedAtByAccount) ->
+            namedParameterJdbcTemplate.query(REPLAYED_IDS_SQL,
+                new MapSqlParameterSource("eventId", eventId)
+                    .addValue("accountIds", issuedAtByAccount.keySet()),
+                rs -> {
+                    LocalDateTime appliedAt = rs.getTimestamp("applied_at").toLocalDateTime();
+                    if (appliedAt.equals(issuedAtByAccount.get(rs.getLong("account_id")))) {
+                        couponIds.add(rs.getLong("id"));
+                    }
+                }));
+        couponOutbox.appendAll(CouponChangeType.ISSUED, couponIds);
+        return couponIds.size();
+    }
+
+    public record EventSnapshot(
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        int stripes
+    ) {
+    }
+}
@@ -0,0 +1,57 @@
+package uos.software.sirip.coupon.application;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uos.software.sirip.coupon.domain.CouponChangeType;
+import uos.software.sirip.coupon.domain.CouponJpaEntity;
+
+/**
+ * 쿠폰 상태 변경을 아웃박스에 기록한다. 상태 변경과 함께 커밋/롤백되도록 트랜잭션 안에서만 호출.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class CouponOutbox {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO coupon_outbox (coupon_id, event_id, account_id, type, occurred_at)
+        VALUES (:couponId, :eventId, :accountId, :type, :occurredAt)
+        """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * ✅ 엔티티로 변경한 쿠폰 한 건 기록 (JPA 변경이 아직 flush 되지 않아도 됨)
+     */
+    public void append(CouponJpaEntity coupon, CouponChangeType type, LocalDateTime occurredAt) {
+        namedParameterJdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+            .addValue("couponId", coupon.getId())
+            .addValue("eventId", coupon.getEvent().getId())
+            .addValue("accountId", coupon.getAccount().getAccountId())
+            .addValue("type", type.name())
+            .addValue("occurredAt", Timestamp.valueOf(occurredAt)));
+    }
+
+    /**
+     * ✅ SQL 로 일괄 변경한 쿠폰 기록. 변경 후 행에서 INSERT ... SELECT 한 번으로 옮긴다.
+     * 실제로 해당 상태가 된 쿠폰만 기록된다.
+     */
+    public int appendAll(CouponChangeType type, Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return 0;
+        }
+        String sql = "INSERT INTO coupon_outbox (coupon_id, event_id, account_id, type, occurred_at) "
+            + "SELECT id, event_id, account_id, :type, " + type.timestampColumn()
+            + " FROM coupons WHERE id IN (:ids) AND status = :status ORDER BY id";
+        return namedParameterJdbcTemplate.update(sql, new MapSqlParameterSource("ids", couponIds)
+            .addValue("type", type.name())
+            .addValue("status", type.status().name()));
+    }
+}
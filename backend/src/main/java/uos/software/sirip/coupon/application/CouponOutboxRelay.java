@@ -0,0 +1,125 @@
+package uos.software.sirip.coupon.application;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import uos.software.sirip.coupon.domain.CouponChangeType;
+
+/**
+ * 아웃박스를 배치 단위로 꺼내 구독자에게 전달하고 삭제한다.
+ *
+ * 꺼내기는 짧은 트랜잭션 하나로 끝낸다: FOR UPDATE SKIP LOCKED 로 잠근 행에 임대 만료 시각(claimed_until)을
+ * 적어 두면 여러 노드가 서로 다른 배치를 가져가고, 구독자 호출은 트랜잭션 밖에서 한다.
+ * 전달이나 삭제가 실패하면 임대가 끝난 뒤 다시 꺼내 전달하므로 (최소 한 번 전달)
+ * 구독자는 outboxId 로 중복을 걸러야 한다.
+ */
+@Slf4j
+@Component
+public class CouponOutboxRelay {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final String LOCK_BATCH_SQL = """
+        SELECT id, coupon_id, event_id, account_id, type, occurred_at
+        FROM coupon_outbox
+        WHERE claimed_until IS NULL OR claimed_until < :now
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """;
+    private static final String CLAIM_SQL =
+        "UPDATE coupon_outbox SET claimed_until = :claimedUntil WHERE id IN (:ids)";
+    private static final String DELETE_SQL = "DELETE FROM coupon_outbox WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<CouponStateChangeSubscriber> subscribers;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration claimTimeout;
+
+    public CouponOutboxRelay(
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        ObjectProvider<CouponStateChangeSubscriber> subscribers,
+        Clock clock,
+        @Value("${coupon.outbox.relay-batch-size}") int batchSize,
+        @Value("${coupon.outbox.claim-timeout}") Duration claimTimeout) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.subscribers = subscribers.orderedStream().toList();
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.outbox.relay-interval-ms}")
+    public void relay() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                List<CouponStateChange> changes = transactionTemplate.execute(status -> claimBatch());
+                if (changes == null || changes.isEmpty()) {
+                    break;
+                }
+                publish(changes);
+                if (changes.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 실패한 배치는 임대가 끝나면 다시 꺼내 전달
+            log.warn("Coupon outbox relay failed", e);
+        }
+    }
+
+    /**
+     * 배치를 잠가 임대 시각을 적고 커밋한다 (커밋 후에는 다른 노드가 임대가 끝날 때까지 건너뜀)
+     */
+    private List<CouponStateChange> claimBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<CouponStateChange> changes = new ArrayList<>();
+        namedParameterJdbcTemplate.query(LOCK_BATCH_SQL,
+            new MapSqlParameterSource("limit", batchSize).addValue("now", Timestamp.valueOf(now)),
+            rs -> {
+                changes.add(new CouponStateChange(
+                    rs.getLong("id"),
+                    rs.getLong("coupon_id"),
+                    rs.getLong("event_id"),
+                    rs.getLong("account_id"),
+                    CouponChangeType.valueOf(rs.getString("type")),
+                    rs.getTimestamp("occurred_at").toLocalDateTime()));
+            });
+        if (!changes.isEmpty()) {
+            namedParameterJdbcTemplate.update(CLAIM_SQL,
+                new MapSqlParameterSource("ids", outboxIds(changes))
+                    .addValue("claimedUntil", Timestamp.valueOf(now.plus(claimTimeout))));
+        }
+        return changes;
+    }
+
+    /**
+     * 트랜잭션 밖에서 구독자에게 전달한 뒤 삭제한다
+     */
+    private void publish(List<CouponStateChange> changes) {
+        List<CouponStateChange> published = List.copyOf(changes);
+        for (CouponStateChangeSubscriber subscriber : subscribers) {
+            subscriber.onChanges(published);
+        }
+        namedParameterJdbcTemplate.update(DELETE_SQL,
+            new MapSqlParameterSource("ids", outboxIds(changes)));
+    }
+
+    private List<Long> outboxIds(List<CouponStateChange> changes) {
+        return changes.stream().map(CouponStateChange::outboxId).toList();
+    }
+}
@@ -0,0 +1,147 @@
+package uos.software.sirip.coupon.application;
+
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+
+/**
+ * 쿠폰 풀: 이벤트 생성 시 쿠폰 행과 코드를 미리 만들어 두고(MINTED),
+ * 신청 시에는 Redis 풀에서 꺼낸 id 에 계정을 배정하는 UPDATE 한 번만 한다.
+ * 대량 INSERT 를 오픈 직후 몰리는 시점에서 이벤트 준비 시점으로 옮기는 것이 목적이다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class CouponPool {
+
+    // 헷갈리기 쉬운 문자(0/O, 1/I/L)를 뺀 코드 문자
+    private static final char[] CODE_ALPHABET = "23456789ABCDEFGHJKMNPQRSTUVWXYZ".toCharArray();
+    private static final int CODE_LENGTH = 12;
+
+    private static final String MINT_SQL = """
+        INSERT INTO coupons (event_id, status, code)
+        VALUES (:eventId, 'MINTED', :code)
+        """;
+    private static final String MINTED_IDS_SQL = """
+        SELECT id FROM coupons WHERE code IN (:codes) ORDER BY id
+        """;
+    private static final String ASSIGN_SQL = """
+        UPDATE coupons
+        SET account_id = :accountId, status = 'ISSUED', applied_at = :issuedAt, issued_at = :issuedAt
+        WHERE id = :couponId AND status = 'MINTED'
+        """;
+    private static final String DISCARD_SQL =
+        "DELETE FROM coupons WHERE id IN (:ids) AND status = 'MINTED'";
+
+    private final SecureRandom random = new SecureRandom();
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final RedisCouponStock redisCouponStock;
+    private final boolean enabled;
+    private final int mintBatchSize;
+
+    public CouponPool(
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+        RedisCouponStock redisCouponStock,
+        @Value("${coupon.pool.enabled}") boolean enabled,
+        @Value("${coupon.pool.mint-batch-size}") int mintBatchSize) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.redisCouponStock = redisCouponStock;
+        this.enabled = enabled;
+        this.mintBatchSize = mintBatchSize;
+    }
+
+    /**
+     * 새로 만드는 이벤트를 풀 방식으로 만들지 (이미 만든 이벤트는 Event.preMinted 기준)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * ✅ 쿠폰 count 개를 배치 INSERT 로 미리 만들고, 커밋 후 id 를 Redis 풀에 넣는다
+     */
+    public int mint(Long eventId, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        List<Long> couponIds = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += mintBatchSize) {
+            int size = Math.min(mintBatchSize, count - offset);
+            List<String> codes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                codes.add(newCode());
+            }
+            SqlParameterSource[] rows = codes.stream()
+                .map(code -> new MapSqlParameterSource("eventId", eventId).addValue("code", code))
+                .toArray(SqlParameterSource[]::new);
+            namedParameterJdbcTemplate.batchUpdate(MINT_SQL, rows);
+            couponIds.addAll(namedParameterJdbcTemplate.queryForList(MINTED_IDS_SQL,
+                new MapSqlParameterSource("codes", codes), Long.class));
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (int from = 0; from < couponIds.size(); from += mintBatchSize) {
+                    redisCouponStock.pushToPool(eventId,
+                        couponIds.subList(from, Math.min(from + mintBatchSize, couponIds.size())));
+                }
+            }
+        });
+        log.info("Minted {} coupons for event {}", count, eventId);
+        return couponIds.size();
+    }
+
+    /**
+     * ✅ 풀에서 꺼낸 쿠폰을 계정에 배정 (이미 배정된 쿠폰이면 false)
+     */
+    public boolean assign(Long couponId, Long accountId, LocalDateTime issuedAt) {
+        return namedParameterJdbcTemplate.update(ASSIGN_SQL,
+            new MapSqlParameterSource("couponId", couponId)
+                .addValue("accountId", accountId)
+                .addValue("issuedAt", Timestamp.valueOf(issuedAt))) == 1;
+    }
+
+    /**
+     * ✅ 발급량 감소: 풀에서 count 개까지 꺼내 미배정 쿠폰을 지운다 (롤백되면 풀에 되돌림)
+     */
+    public int discard(Long eventId, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        List<Long> couponIds = redisCouponStock.popFromPool(eventId, count);
+        if (couponIds.isEmpty()) {
+            return 0;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisCouponStock.pushToPool(eventId, couponIds);
+                }
+            }
+        });
+        return namedParameterJdbcTemplate.update(DISCARD_SQL,
+            new MapSqlParameterSource("ids", couponIds));
+    }
+
+    private String newCode() {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = CODE_ALPHABET[random.nextInt(CODE_ALPHABET.length)];
+        }
+        return new String(code);
+    }
+}
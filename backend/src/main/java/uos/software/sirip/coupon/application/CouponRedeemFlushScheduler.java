@@ -0,0 +1,52 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uos.software.sirip.coupon.infra.redis.RedisRedemptionLedger;
+
+/**
+ * 토큰 사용 대기열을 주기적으로 DB 에 반영한다. 여러 노드 중 잠금을 얻은 한 곳만 실행.
+ */
+@Slf4j
+@Component
+public class CouponRedeemFlushScheduler {
+
+    private static final Duration LOCK_LEASE = Duration.ofSeconds(30);
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final CouponRedemptionService couponRedemptionService;
+    private final RedisRedemptionLedger redisRedemptionLedger;
+    private final int batchSize;
+
+    public CouponRedeemFlushScheduler(
+        CouponRedemptionService couponRedemptionService,
+        RedisRedemptionLedger redisRedemptionLedger,
+        @Value("${coupon.token.flush-batch-size}") int batchSize) {
+        this.couponRedemptionService = couponRedemptionService;
+        this.redisRedemptionLedger = redisRedemptionLedger;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.token.flush-interval-ms}")
+    public void flush() {
+        String owner = redisRedemptionLedger.tryLockFlush(LOCK_LEASE);
+        if (owner == null) {
+            return;
+        }
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (couponRedemptionService.flushQueuedRedemptions(batchSize) < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 대기열은 커밋 후에만 비우므로 다음 주기에 다시 시도
+            log.warn("Queued coupon redemptions flush failed", e);
+        } finally {
+            redisRedemptionLedger.unlockFlush(owner);
+        }
+    }
+}
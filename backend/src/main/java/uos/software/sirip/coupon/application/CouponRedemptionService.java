@@ -0,0 +1,234 @@
+package uos.software.sirip.coupon.application;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uos.software.sirip.coupon.domain.CouponChangeType;
+import uos.software.sirip.coupon.domain.CouponStatus;
+import uos.software.sirip.coupon.exception.InvalidRedeemBatchException;
+import uos.software.sirip.coupon.infra.redis.RedeemBatchReplayStore;
+import uos.software.sirip.coupon.infra.redis.RedisRedemptionLedger;
+import uos.software.sirip.coupon.infra.redis.RedisRedemptionLedger.QueuedRedemption;
+
+/**
+ * 입장 스캐너용 일괄 쿠폰 사용과 토큰 사용 대기열의 DB 반영.
+ * 쿠폰 상태 조회(FOR UPDATE)와 상태 변경을 각각 SQL 한 번으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CouponRedemptionService {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private static final String LOCK_SQL = """
+        SELECT c.id, c.status, e.account_id
+        FROM coupons c JOIN events e ON e.id = c.event_id
+        WHERE c.id IN (:ids)
+        FOR UPDATE
+        """;
+
+    private static final String LOCK_ISSUED_SQL =
+        "SELECT id FROM coupons WHERE id IN (:ids) AND status = 'ISSUED' FOR UPDATE";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final RedeemBatchReplayStore redeemBatchReplayStore;
+    private final RedisRedemptionLedger redisRedemptionLedger;
+    private final CouponOutbox couponOutbox;
+    private final Clock clock;
+
+    /**
+     * ✅ 쿠폰 일괄 사용 (본인 이벤트의 쿠폰만, 같은 배치 재전송 시 처음 결과 반환)
+     */
+    public BulkRedeemResult redeemBatch(Long accountId, String scannerId, String batchId,
+        List<ScannedCoupon> scans) {
+        if (scans.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRedeemBatchException(
+                "한 번에 사용할 수 있는 쿠폰은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        Optional<BulkRedeemResult> replay = redeemBatchReplayStore.find(accountId, scannerId, batchId);
+        if (replay.isPresent()) {
+            return replay.get().asReplay();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<Long, LockedCoupon> locked = lock(scans);
+
+        List<BulkRedeemResult.Item> items = new ArrayList<>(scans.size());
+        Map<Long, LocalDateTime> toRedeem = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (ScannedCoupon scan : scans) {
+            Long couponId = scan.couponId();
+            LockedCoupon coupon = locked.get(couponId);
+            if (coupon == null) {
+                items.add(new BulkRedeemResult.Item(couponId, RedeemOutcome.NOT_FOUND, null));
+            } else if (!accountId.equals(coupon.ownerAccountId())) {
+                items.add(new BulkRedeemResult.Item(couponId, RedeemOutcome.NOT_OWNED, null));
+            } else if (coupon.status() == CouponStatus.REDEEMED || !seen.add(couponId)) {
+                items.add(new BulkRedeemResult.Item(couponId, RedeemOutcome.ALREADY_REDEEMED, null));
+            } else if (!coupon.status().isIssued()) {
+                items.add(new BulkRedeemResult.Item(couponId, RedeemOutcome.INVALID_STATE, null));
+            } else {
+                // 기기 시계가 앞서 있어도 서버 시각 이후로 기록하지 않는다
+                LocalDateTime redeemedAt = scan.scannedAt() == null || scan.scannedAt().isAfter(now)
+                    ? now : scan.scannedAt();
+                toRedeem.put(couponId, redeemedAt);
+                items.add(new BulkRedeemResult.Item(couponId, RedeemOutcome.REDEEMED, redeemedAt));
+            }
+        }
+
+        // 토큰으로 먼저 사용된 쿠폰 (DB 반영 전) 제외
+        Set<Long> redeemedByToken = redisRedemptionLedger.claim(toRedeem.keySet());
+        if (!redeemedByToken.isEmpty()) {
+            toRedeem.keySet().removeAll(redeemedByToken);
+            items.replaceAll(item -> redeemedByToken.contains(item.couponId())
+                && item.outcome() == RedeemOutcome.REDEEMED
+                ? new BulkRedeemResult.Item(item.couponId(), RedeemOutcome.ALREADY_REDEEMED, null)
+                : item);
+        }
+        unclaimOnRollback(List.copyOf(toRedeem.keySet()));
+
+        int updated = updateRedeemed(toRedeem);
+        if (updated != toRedeem.size()) {
+            // 행 잠금 후라 발생하지 않아야 함. 일부만 반영되지 않도록 전체 롤백
+            throw new IllegalStateException(
+                "Redeem batch updated " + updated + " of " + toRedeem.size() + " coupons");
+        }
+        couponOutbox.appendAll(CouponChangeType.REDEEMED, toRedeem.keySet());
+
+        BulkRedeemResult result = new BulkRedeemResult(scannerId, batchId, false, items);
+        saveReplayAfterCommit(accountId, result);
+        return result;
+    }
+
+    /**
+     * ✅ 토큰 사용 대기열을 최대 batchSize 건 DB 에 반영하고 처리한 건수를 돌려준다.
+     * 이미 ISSUED 가 아닌 쿠폰은 건너뛴다 (재처리해도 같은 결과).
+     */
+    public int flushQueuedRedemptions(int batchSize) {
+        List<QueuedRedemption> queued = redisRedemptionLedger.peek(batchSize, clock.getZone());
+        if (queued.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, LocalDateTime> toRedeem = new LinkedHashMap<>();
+        queued.forEach(entry -> toRedeem.putIfAbsent(entry.couponId(), entry.redeemedAt()));
+        // 재처리로 섞인 이미 REDEEMED 인 쿠폰은 빼고, 실제로 바뀌는 행만 아웃박스에 기록
+        toRedeem.keySet().retainAll(lockIssued(toRedeem.keySet()));
+        int updated = updateRedeemed(toRedeem);
+        if (updated != toRedeem.size()) {
+            // 행 잠금 후라 발생하지 않아야 함
+            throw new IllegalStateException(
+                "Redeem flush updated " + updated + " of " + toRedeem.size() + " coupons");
+        }
+        if (!toRedeem.isEmpty()) {
+            couponOutbox.appendAll(CouponChangeType.REDEEMED, toRedeem.keySet());
+        }
+
+        int processed = queued.size();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisRedemptionLedger.acknowledge(processed);
+            }
+        });
+        return processed;
+    }
+
+    private Map<Long, LockedCoupon> lock(List<ScannedCoupon> scans) {
+        Set<Long> ids = new HashSet<>();
+        scans.forEach(scan -> ids.add(scan.couponId()));
+
+        Map<Long, LockedCoupon> locked = new HashMap<>();
+        namedParameterJdbcTemplate.query(LOCK_SQL, new MapSqlParameterSource("ids", ids),
+            rs -> {
+                long id = rs.getLong("id");
+                locked.put(id, new LockedCoupon(
+                    CouponStatus.valueOf(rs.getString("status")),
+                    rs.getLong("account_id")));
+            });
+        return locked;
+    }
+
+    private Set<Long> lockIssued(Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(LOCK_ISSUED_SQL,
+            new MapSqlParameterSource("ids", couponIds), Long.class));
+    }
+
+    /**
+     * 쿠폰마다 사용 시각이 달라 CASE 로 한 번에 갱신한다.
+     */
+    private int updateRedeemed(Map<Long, LocalDateTime> toRedeem) {
+        if (toRedeem.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", toRedeem.keySet());
+        StringBuilder cases = new StringBuilder("CASE id");
+        int index = 0;
+        for (Map.Entry<Long, LocalDateTime> entry : toRedeem.entrySet()) {
+            cases.append(" WHEN :id").append(index).append(" THEN :at").append(index);
+            params.addValue("id" + index, entry.getKey());
+            params.addValue("at" + index, Timestamp.valueOf(entry.getValue()));
+            index++;
+        }
+        cases.append(" END");
+
+        String sql = "UPDATE coupons SET status = 'REDEEMED', redeemed_at = " + cases
+            + " WHERE id IN (:ids) AND status = 'ISSUED'";
+        return namedParameterJdbcTemplate.update(sql, params);
+    }
+
+    private void unclaimOnRollback(Collection<Long> couponIds) {
+        if (couponIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisRedemptionLedger.unclaim(couponIds);
+                }
+            }
+        });
+    }
+
+    private void saveReplayAfterCommit(Long accountId, BulkRedeemResult result) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redeemBatchReplayStore.save(accountId, result);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redeemBatchReplayStore.save(accountId, result);
+            }
+        });
+    }
+
+    public record ScannedCoupon(Long couponId, LocalDateTime scannedAt) {
+    }
+
+    private record LockedCoupon(CouponStatus status, Long ownerAccountId) {
+    }
+}
@@ -0,0 +1,17 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.LocalDateTime;
+import uos.software.sirip.coupon.domain.CouponChangeType;
+
+/**
+ * 아웃박스에서 꺼낸 쿠폰 상태 변경 한 건. outboxId 는 중복 제거 키 (다시 전달된 배치는 뒤 배치보다 늦게 올 수 있다).
+ */
+public record CouponStateChange(
+    Long outboxId,
+    Long couponId,
+    Long eventId,
+    Long accountId,
+    CouponChangeType type,
+    LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,13 @@
+package uos.software.sirip.coupon.application;
+
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이가 배치 단위로 호출하는 구독자.
+ * 예외를 던지거나 삭제 전에 노드가 죽으면 배치가 임대 만료 후 다시 전달되므로 (최소 한 번 전달)
+ * outboxId 로 중복을 걸러낼 수 있게 구현한다.
+ */
+public interface CouponStateChangeSubscriber {
+
+    void onChanges(List<CouponStateChange> changes);
+}
@@ -0,0 +1,196 @@
+package uos.software.sirip.coupon.application;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uos.software.sirip.coupon.infra.journal.IssuanceJournal;
+import uos.software.sirip.coupon.infra.journal.JournalEntry;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+import uos.software.sirip.event.infra.jpa.Event;
+import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+
+/**
+ * 이벤트별 쿠폰 Redis 키(remain, applied)의 생성 · TTL · 보관을 담당한다.
+ */
+@Slf4j
+@Service
+public class CouponStockLifecycleService {
+
+    private static final int ARCHIVE_BATCH_SIZE = 1000;
+    private static final String ARCHIVE_SQL =
+        "INSERT INTO coupon_application_archive (event_id, account_id, archived_at) VALUES (?, ?, ?)";
+    // 신청 기록에 남아야 하는 상태 (WAITING 은 재고를 소모하지 않음)
+    private static final String APPLICANTS_SQL = """
+        SELECT account_id, status FROM coupons
+        WHERE event_id = ? AND status IN ('ISSUED', 'REDEEMED', 'NO_SHOW', 'WAITING')
+        """;
+    private static final String COUNT_MINTED_SQL =
+        "SELECT COUNT(*) FROM coupons WHERE event_id = ? AND status = 'MINTED'";
+    private static final String MINTED_IDS_SQL =
+        "SELECT id FROM coupons WHERE event_id = ? AND status = 'MINTED' ORDER BY id";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCouponStock redisCouponStock;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventJpaRepository eventJpaRepository;
+    private final IssuanceJournal issuanceJournal;
+    private final Clock clock;
+    private final Duration keyRetention;
+    private final Duration stripeClaimTimeout;
+
+    public CouponStockLifecycleService(
+        StringRedisTemplate stringRedisTemplate,
+        RedisCouponStock redisCouponStock,
+        JdbcTemplate jdbcTemplate,
+        EventJpaRepository eventJpaRepository,
+        IssuanceJournal issuanceJournal,
+        Clock clock,
+        @Value("${event.lifecycle.key-retention}") Duration keyRetention,
+        @Value("${coupon.stripe.claim-timeout}") Duration stripeClaimTimeout) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisCouponStock = redisCouponStock;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventJpaRepository = eventJpaRepository;
+        this.issuanceJournal = issuanceJournal;
+        this.clock = clock;
+        this.keyRetention = keyRetention;
+        this.stripeClaimTimeout = stripeClaimTimeout;
+    }
+
+    /**
+     * ✅ 잔여 수량 키 생성 (이벤트 종료 + 보관 기간 후 자동 만료)
+     */
+    public void initialize(Long eventId, int totalCoupons, int stripes, LocalDateTime endAt) {
+        redisCouponStock.seed(eventId, stripes, totalCoupons, ttlUntil(endAt));
+    }
+
+    /**
+     * ✅ 재고 키를 잃은 이벤트 복구: DB 와 이 노드 저널의 미반영 발급으로 신청 기록 · 쿠폰 풀 · 잔여 수량을 다시 만든다.
+     * 잔여 수량 키를 마지막에 만들어, 신청 기록이 채워지기 전에는 신청이 NOT_INITIALIZED 로 막히게 한다.
+     */
+    public int restore(Event event) {
+        Long eventId = event.getId();
+        int stripes = event.stripeCount();
+
+        Set<Long> applicants = new HashSet<>();
+        int consumed = collectApplicants(eventId, applicants);
+        redisCouponStock.recordApplicants(eventId, stripes, applicants);
+
+        int remaining;
+        if (event.isPreMinted()) {
+            // 풀 이벤트는 남은 MINTED 쿠폰이 곧 재고
+            // (남아 있던 풀 목록은 DB 와 어긋날 수 있으므로 비우고 다시 채운다)
+            List<Long> mintedIds = jdbcTemplate.queryForList(MINTED_IDS_SQL, Long.class, eventId);
+            redisCouponStock.clearPool(eventId);
+            for (int from = 0; from < mintedIds.size(); from += ARCHIVE_BATCH_SIZE) {
+                redisCouponStock.pushToPool(eventId,
+                    mintedIds.subList(from, Math.min(from + ARCHIVE_BATCH_SIZE, mintedIds.size())));
+            }
+            remaining = mintedIds.size();
+        } else {
+            remaining = Math.max(event.getTotalCoupons() - consumed, 0);
+        }
+        initialize(eventId, remaining, stripes, event.getEndAt());
+        retime(eventId, stripes, event.getEndAt());
+        return remaining;
+    }
+
+    /**
+     * ✅ 재고 키가 없을 때의 잔여 수량 (풀 이벤트는 남은 MINTED 수, 그 외는 발급량 - DB · 저널 발급 수)
+     */
+    public int remainingInDatabase(Event event) {
+        if (event.isPreMinted()) {
+            Integer minted = jdbcTemplate.queryForObject(COUNT_MINTED_SQL, Integer.class, event.getId());
+            return minted == null ? 0 : minted;
+        }
+        int consumed = collectApplicants(event.getId(), new HashSet<>());
+        return Math.max(event.getTotalCoupons() - consumed, 0);
+    }
+
+    /**
+     * ✅ 일정 변경 시 키 만료 시각 재설정
+     */
+    public void retime(Long eventId, int stripes, LocalDateTime endAt) {
+        Instant expireAt = toInstant(endAt).plus(keyRetention);
+        redisCouponStock.keys(eventId, stripes).forEach(key -> stringRedisTemplate.expireAt(key, expireAt));
+    }
+
+    /**
+     * ✅ 종료된 이벤트의 신청 집합을 MySQL 로 옮기고 키를 만료시킨다.
+     * 키가 실제로 존재하는 시점(종료 후)에 TTL 을 건다.
+     */
+    public int archiveAndExpire(Long eventId, int stripes, LocalDateTime archivedAt) {
+        Timestamp timestamp = Timestamp.valueOf(archivedAt);
+
+        int[] archived = {0};
+        redisCouponStock.scanApplicants(eventId, stripes, ARCHIVE_BATCH_SIZE, accountIds -> {
+            List<Object[]> rows = accountIds.stream()
+                .map(accountId -> new Object[]{eventId, accountId, timestamp})
+                .toList();
+            jdbcTemplate.batchUpdate(ARCHIVE_SQL, rows);
+            archived[0] += rows.size();
+        });
+        log.info("Archived {} applicants of event {} (dedup key {} bytes)",
+            archived[0], eventId, redisCouponStock.memoryUsage(eventId, stripes));
+
+        redisCouponStock.keys(eventId, stripes).forEach(key -> stringRedisTemplate.expire(key, keyRetention));
+        return archived[0];
+    }
+
+    /**
+     * ✅ 분할 이벤트에서 다른 칸을 빌리다 멈춘 신청 정리 (노드가 죽어 확정 · 취소가 오지 않은 경우).
+     * 여러 노드가 동시에 실행해도 기록을 지운 쪽만 재고를 돌려준다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.stripe.recovery-interval-ms}")
+    public void recoverStripeClaims() {
+        eventJpaRepository.findByArchivedAtIsNullAndStockStripesGreaterThan(1).forEach(event -> {
+            int recovered = redisCouponStock.recoverStalePending(
+                event.getId(), event.stripeCount(), stripeClaimTimeout);
+            if (recovered > 0) {
+                log.warn("Recovered {} stalled stripe claims of event {}", recovered, event.getId());
+            }
+        });
+    }
+
+    /**
+     * 신청 기록에 남아야 할 계정을 모으고, 그중 재고를 소모한 발급 수를 돌려준다.
+     */
+    private int collectApplicants(Long eventId, Set<Long> applicants) {
+        int[] consumed = {0};
+        jdbcTemplate.query(APPLICANTS_SQL, rs -> {
+            applicants.add(rs.getLong("account_id"));
+            if (!"WAITING".equals(rs.getString("status"))) {
+                consumed[0]++;
+            }
+        }, eventId);
+        // 저널에 fsync 됐지만 아직 DB 에 반영되지 않은 발급 (반영 직후 표시 전이면 DB 쪽과 겹치므로 계정으로 거른다)
+        if (issuanceJournal.isEnabled()) {
+            for (JournalEntry entry : issuanceJournal.pending(Integer.MAX_VALUE)) {
+                if (entry.eventId() == eventId && applicants.add(entry.accountId())) {
+                    consumed[0]++;
+                }
+            }
+        }
+        return consumed[0];
+    }
+
+    private Duration ttlUntil(LocalDateTime endAt) {
+        Duration untilEnd = Duration.between(Instant.now(clock), toInstant(endAt));
+        return (untilEnd.isNegative() ? Duration.ZERO : untilEnd).plus(keyRetention);
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant();
+    }
+}
@@ -16,7 +16,12 @@ public class CouponSummary {
     private final LocalDateTime issuedAt;
     private final LocalDateTime redeemedAt;
     private final LocalDateTime noShowAt;
+    private final LocalDateTime cancelledAt;
     private final Integer queuePosition;
+    // 발급 상태일 때만 채워지는 사용 토큰
+    private final String token;
+    // 쿠폰 풀 이벤트의 쿠폰 코드
+    private final String code;
 
     public CouponSummary(
         Long couponId,
@@ -27,7 +32,10 @@ public class CouponSummary {
         LocalDateTime issuedAt,
         LocalDateTime redeemedAt,
         LocalDateTime noShowAt,
-        Integer queuePosition
+        LocalDateTime cancelledAt,
+        Integer queuePosition,
+        String token,
+        String code
     ) {
         this.couponId = couponId;
         this.eventId = eventId;
@@ -37,7 +45,10 @@ public class CouponSummary {
         this.issuedAt = issuedAt;
         this.redeemedAt = redeemedAt;
         this.noShowAt = noShowAt;
+        this.cancelledAt = cancelledAt;
         this.queuePosition = queuePosition;
+        this.token = token;
+        this.code = code;
     }
 
     public static CouponSummary from(CouponJpaEntity coupon) {
@@ -50,8 +61,16 @@ public class CouponSummary {
             coupon.getIssuedAt(),
             coupon.getRedeemedAt(),
             coupon.getNoShowAt(),
-            coupon.getQueuePosition()
+            coupon.getCancelledAt(),
+            coupon.getQueuePosition(),
+            null,
+            coupon.getCode()
         );
     }
 
+    public CouponSummary withToken(String token) {
+        return new CouponSummary(couponId, eventId, accountId, status, appliedAt, issuedAt,
+            redeemedAt, noShowAt, cancelledAt, queuePosition, token, code);
+    }
+
 }
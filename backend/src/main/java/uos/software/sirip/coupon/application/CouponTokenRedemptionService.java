@@ -0,0 +1,62 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import uos.software.sirip.coupon.exception.InvalidCouponStateException;
+import uos.software.sirip.coupon.exception.InvalidCouponTokenException;
+import uos.software.sirip.coupon.infra.redis.RedisRedemptionLedger;
+import uos.software.sirip.coupon.infra.token.CouponTokenClaims;
+import uos.software.sirip.coupon.infra.token.CouponTokenCodec;
+import uos.software.sirip.event.exception.EventNotFoundException;
+import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+
+/**
+ * 서명 토큰으로 쿠폰 사용 (MySQL 조회 없음, 주최자 확인용 이벤트 소유자만 이벤트당 한 번 읽어 둔다).
+ * 이중 사용은 Redis 사용 비트맵으로 막고, DB 상태는 CouponRedeemFlushScheduler 가 묶어서 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponTokenRedemptionService {
+
+    private final CouponTokenCodec couponTokenCodec;
+    private final RedisRedemptionLedger redisRedemptionLedger;
+    private final EventJpaRepository eventJpaRepository;
+    private final Clock clock;
+
+    // 이벤트 소유자는 바뀌지 않으므로 노드 로컬에 계속 둔다
+    private final Map<Long, Long> eventOwners = new ConcurrentHashMap<>();
+
+    /**
+     * ✅ 토큰 쿠폰 사용 (이벤트 주최자 본인이, 스캐너가 입장 중인 이벤트의 토큰만)
+     */
+    public TokenRedemptionResult redeem(Long accountId, Long eventId, String token) {
+        if (!ownerOf(eventId).equals(accountId)) {
+            throw new SecurityException("본인 이벤트만 접근할 수 있습니다.");
+        }
+        CouponTokenClaims claims = couponTokenCodec.decode(token)
+            .orElseThrow(InvalidCouponTokenException::new);
+        if (!claims.eventId().equals(eventId)) {
+            throw new InvalidCouponTokenException();
+        }
+
+        Instant now = clock.instant();
+        if (!redisRedemptionLedger.redeemAndEnqueue(claims.couponId(), now)) {
+            throw new InvalidCouponStateException("Coupon already redeemed or no longer valid");
+        }
+        return new TokenRedemptionResult(
+            claims.couponId(),
+            claims.eventId(),
+            claims.accountId(),
+            LocalDateTime.ofInstant(now, clock.getZone()));
+    }
+
+    private Long ownerOf(Long eventId) {
+        return eventOwners.computeIfAbsent(eventId, id -> eventJpaRepository.findOwnerAccountId(id)
+            .orElseThrow(() -> new EventNotFoundException(id)));
+    }
+}
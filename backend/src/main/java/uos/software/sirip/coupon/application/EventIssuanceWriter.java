@@ -0,0 +1,210 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import uos.software.sirip.coupon.application.CouponBatchIssuer.EventSnapshot;
+import uos.software.sirip.coupon.application.IssuanceResult.Status;
+import uos.software.sirip.coupon.infra.redis.ApplyOutcome;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+
+/**
+ * 이벤트 하나의 신청을 스레드 하나가 순서대로 판정한다.
+ *
+ * 요청 스레드는 고정 크기 링(ArrayBlockingQueue)에 넣기만 하고, 작성기는 꺼낸 만큼을
+ * applyV2 와 같은 Redis 스크립트(신청 기록 선점 + 재고 차감)로 한 번에 판정한 뒤
+ * 발급분을 배치 INSERT 한 번으로 기록한다. 기록에 실패하면 선점을 되돌린다.
+ * 한동안 요청이 없으면 멈춘다.
+ */
+@Slf4j
+class EventIssuanceWriter implements Runnable {
+
+    // 유휴 여부와 넘겨주기 요청을 확인하는 간격
+    private static final long POLL_MILLIS = 200;
+
+    enum Offer {
+        ACCEPTED,
+        FULL,
+        CLOSED
+    }
+
+    record Submission(String requestId, Long accountId, CompletableFuture<IssuanceResult> result) {
+    }
+
+    private final Long eventId;
+    private final CouponBatchIssuer couponBatchIssuer;
+    private final RedisCouponStock redisCouponStock;
+    private final Clock clock;
+    private final ArrayBlockingQueue<Submission> ring;
+    private final int batchSize;
+    private final long idleTimeoutMillis;
+    private final Consumer<EventIssuanceWriter> onStop;
+    private final Object lock = new Object();
+    private boolean closed;
+    private Thread thread;
+
+    private final EventSnapshot snapshot;
+
+    EventIssuanceWriter(Long eventId, EventSnapshot snapshot, CouponBatchIssuer couponBatchIssuer,
+        RedisCouponStock redisCouponStock, Clock clock, int ringSize, int batchSize,
+        long idleTimeoutMillis, Consumer<EventIssuanceWriter> onStop) {
+        this.eventId = eventId;
+        this.snapshot = snapshot;
+        this.couponBatchIssuer = couponBatchIssuer;
+        this.redisCouponStock = redisCouponStock;
+        this.clock = clock;
+        this.ring = new ArrayBlockingQueue<>(ringSize);
+        this.batchSize = batchSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.onStop = onStop;
+    }
+
+    Long eventId() {
+        return eventId;
+    }
+
+    void start() {
+        thread = new Thread(this, "issuance-" + eventId);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void stop() {
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * 새 신청은 받지 않고 링에 남은 신청만 처리한 뒤 멈춘다 (이벤트 소유권이 다른 노드로 넘어갈 때).
+     */
+    void retire() {
+        close();
+    }
+
+    /**
+     * 멈추는 중이면 CLOSED → 호출 측이 새 작성기로 다시 넣는다.
+     */
+    Offer offer(Submission submission) {
+        synchronized (lock) {
+            if (closed) {
+                return Offer.CLOSED;
+            }
+            return ring.offer(submission) ? Offer.ACCEPTED : Offer.FULL;
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            List<Submission> batch = new ArrayList<>(batchSize);
+            long idleSince = clock.millis();
+            while (true) {
+                Submission first = ring.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    boolean idle = clock.millis() - idleSince >= idleTimeoutMillis;
+                    if ((idle || isClosed()) && closeIfIdle()) {
+                        break;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                ring.drainTo(batch, batchSize - 1);
+                process(batch);
+                batch.clear();
+                idleSince = clock.millis();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Issuance writer for event {} stopped", eventId, e);
+        } finally {
+            close();
+            failRemaining();
+            onStop.accept(this);
+        }
+    }
+
+    private void process(List<Submission> batch) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        boolean open = !now.isBefore(snapshot.startAt()) && now.isBefore(snapshot.endAt());
+
+        if (!open) {
+            batch.forEach(submission -> complete(submission, Status.CLOSED));
+            return;
+        }
+
+        List<ApplyOutcome> outcomes = redisCouponStock.tryApplyAll(eventId, snapshot.stripes(),
+            batch.stream().map(Submission::accountId).toList());
+        List<Submission> toIssue = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Submission submission = batch.get(i);
+            switch (outcomes.get(i)) {
+                case ISSUED -> toIssue.add(submission);
+                case DUPLICATE -> complete(submission, Status.DUPLICATE);
+                case SOLD_OUT -> complete(submission, Status.SOLD_OUT);
+                case NOT_INITIALIZED -> {
+                    log.warn("Stock key for event {} is missing, treating as sold out", eventId);
+                    complete(submission, Status.SOLD_OUT);
+                }
+            }
+        }
+        if (toIssue.isEmpty()) {
+            return;
+        }
+
+        List<Long> accountIds = toIssue.stream().map(Submission::accountId).toList();
+        try {
+            Map<Long, Long> couponByAccount = couponBatchIssuer.issue(eventId, accountIds, now);
+            for (Submission submission : toIssue) {
+                submission.result().complete(new IssuanceResult(submission.requestId(), eventId,
+                    Status.ISSUED, couponByAccount.get(submission.accountId()), now));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to persist {} issuances for event {}", toIssue.size(), eventId, e);
+            accountIds.forEach(accountId ->
+                redisCouponStock.release(eventId, snapshot.stripes(), accountId));
+            toIssue.forEach(submission -> complete(submission, Status.FAILED));
+        }
+    }
+
+    private boolean closeIfIdle() {
+        synchronized (lock) {
+            if (!ring.isEmpty()) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+    }
+
+    private boolean isClosed() {
+        synchronized (lock) {
+            return closed;
+        }
+    }
+
+    private void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+    }
+
+    private void failRemaining() {
+        Submission submission;
+        while ((submission = ring.poll()) != null) {
+            complete(submission, Status.FAILED);
+        }
+    }
+
+    private void complete(Submission submission, Status status) {
+        submission.result().complete(IssuanceResult.of(submission.requestId(), eventId, status));
+    }
+}
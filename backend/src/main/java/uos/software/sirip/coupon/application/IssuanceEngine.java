@@ -0,0 +1,175 @@
+package uos.software.sirip.coupon.application;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uos.software.sirip.config.cluster.ClusterMembership;
+import uos.software.sirip.config.cluster.EventOwnershipChangedEvent;
+import uos.software.sirip.coupon.application.CouponBatchIssuer.EventSnapshot;
+import uos.software.sirip.coupon.application.EventIssuanceWriter.Submission;
+import uos.software.sirip.coupon.application.IssuanceResult.Status;
+import uos.software.sirip.coupon.exception.IssuanceEngineBusyException;
+import uos.software.sirip.coupon.exception.IssuanceRequestNotFoundException;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+
+/**
+ * 이벤트별 단일 작성기 발급 엔진. 이벤트마다 작성기를 필요할 때 띄우고 유휴 시 내린다.
+ *
+ * 중복 · 재고 판정은 applyV2 와 같은 Redis 신청 기록 · 재고 키에서 원자적으로 하므로
+ * applyV2 와 섞이거나 여러 노드에서 작성기가 돌아도 중복 · 초과 발급이 없다
+ * (클러스터에서 EventOwnershipFilter 가 소유 노드로 모으는 것은 배치를 크게 만들기 위해서다).
+ * 처리 결과는 이 노드 메모리에 resultTtl 동안 보관한다.
+ */
+@Component
+public class IssuanceEngine {
+
+    private final Map<Long, EventIssuanceWriter> writers = new ConcurrentHashMap<>();
+    private final Map<String, TrackedRequest> requests = new ConcurrentHashMap<>();
+    private final CouponBatchIssuer couponBatchIssuer;
+    private final RedisCouponStock redisCouponStock;
+    private final ClusterMembership clusterMembership;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int ringSize;
+    private final int batchSize;
+    private final Duration idleTimeout;
+    private final Duration resultTtl;
+
+    public IssuanceEngine(
+        CouponBatchIssuer couponBatchIssuer,
+        RedisCouponStock redisCouponStock,
+        ClusterMembership clusterMembership,
+        Clock clock,
+        @Value("${coupon.engine.enabled}") boolean enabled,
+        @Value("${coupon.engine.ring-size}") int ringSize,
+        @Value("${coupon.engine.batch-size}") int batchSize,
+        @Value("${coupon.engine.idle-timeout}") Duration idleTimeout,
+        @Value("${coupon.engine.result-ttl}") Duration resultTtl) {
+        this.couponBatchIssuer = couponBatchIssuer;
+        this.redisCouponStock = redisCouponStock;
+        this.clusterMembership = clusterMembership;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.ringSize = ringSize;
+        this.batchSize = batchSize;
+        this.idleTimeout = idleTimeout;
+        this.resultTtl = resultTtl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * ✅ 엔진을 쓰지 않고 바로 처리한 결과를 같은 방식으로 조회할 수 있게 보관
+     */
+    public IssuanceResult completed(Long accountId, Long eventId, Status status, Long couponId,
+        LocalDateTime issuedAt) {
+        String requestId = UUID.randomUUID().toString();
+        IssuanceResult result = new IssuanceResult(requestId, eventId, status, couponId, issuedAt);
+        requests.put(requestId,
+            new TrackedRequest(accountId, CompletableFuture.completedFuture(result), clock.millis()));
+        return result;
+    }
+
+    /**
+     * ✅ 신청을 작성기 링에 넣고 바로 반환 (없는 이벤트면 404, 링이 가득 차면 503)
+     */
+    public IssuanceResult submit(Long accountId, Long eventId) {
+        String requestId = UUID.randomUUID().toString();
+        CompletableFuture<IssuanceResult> result = new CompletableFuture<>();
+        Submission submission = new Submission(requestId, accountId, result);
+        boolean tracked = false;
+        while (true) {
+            EventIssuanceWriter writer = writers.get(eventId);
+            if (writer == null) {
+                // 없는 이벤트로 작성기 스레드를 띄우지 않도록 요청 스레드에서 먼저 읽는다
+                EventSnapshot snapshot = couponBatchIssuer.load(eventId);
+                writer = writers.computeIfAbsent(eventId, id -> startWriter(id, snapshot));
+            }
+            if (!tracked) {
+                requests.put(requestId, new TrackedRequest(accountId, result, clock.millis()));
+                tracked = true;
+            }
+            switch (writer.offer(submission)) {
+                case ACCEPTED:
+                    return result.getNow(IssuanceResult.pending(requestId, eventId));
+                case FULL:
+                    requests.remove(requestId);
+                    throw new IssuanceEngineBusyException(eventId);
+                case CLOSED:
+                    // 멈추는 작성기가 목록에서 빠질 때까지 잠깐 기다렸다가 새 작성기로
+                    Thread.onSpinWait();
+                    break;
+            }
+        }
+    }
+
+    /**
+     * ✅ 결과 조회 (본인 요청만)
+     */
+    public IssuanceResult result(Long accountId, Long eventId, String requestId) {
+        return find(accountId, requestId).getNow(IssuanceResult.pending(requestId, eventId));
+    }
+
+    /**
+     * ✅ 결과가 나오면 완료되는 future (SSE 용)
+     * 보관 중인 future 의 사본을 넘겨, 구독 측이 타임아웃 · 연결 종료로 취소해도 결과 조회에는 영향이 없다.
+     */
+    public CompletableFuture<IssuanceResult> awaitResult(Long accountId, String requestId) {
+        return find(accountId, requestId).copy();
+    }
+
+    private CompletableFuture<IssuanceResult> find(Long accountId, String requestId) {
+        TrackedRequest tracked = requests.get(requestId);
+        if (tracked == null || !tracked.accountId().equals(accountId)) {
+            throw new IssuanceRequestNotFoundException(requestId);
+        }
+        return tracked.result();
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.engine.result-sweep-interval-ms}")
+    public void sweepResults() {
+        long expiredBefore = clock.millis() - resultTtl.toMillis();
+        requests.values().removeIf(tracked -> tracked.result().isDone()
+            && tracked.submittedAt() < expiredBefore);
+    }
+
+    /**
+     * ✅ 다른 노드로 소유권이 넘어간 이벤트의 작성기는 남은 신청만 처리하고 멈춘다
+     */
+    @EventListener(EventOwnershipChangedEvent.class)
+    public void retireMovedWriters() {
+        writers.forEach((eventId, writer) -> {
+            if (!clusterMembership.ownsLocally(eventId)) {
+                writer.retire();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.values().forEach(EventIssuanceWriter::stop);
+    }
+
+    private EventIssuanceWriter startWriter(Long eventId, EventSnapshot snapshot) {
+        EventIssuanceWriter writer = new EventIssuanceWriter(eventId, snapshot, couponBatchIssuer,
+            redisCouponStock, clock, ringSize, batchSize, idleTimeout.toMillis(),
+            stopped -> writers.remove(stopped.eventId(), stopped));
+        writer.start();
+        return writer;
+    }
+
+    private record TrackedRequest(Long accountId, CompletableFuture<IssuanceResult> result,
+                                  long submittedAt) {
+    }
+}
@@ -0,0 +1,78 @@
+package uos.software.sirip.coupon.application;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uos.software.sirip.coupon.infra.journal.IssuanceJournal;
+import uos.software.sirip.coupon.infra.journal.JournalEntry;
+
+/**
+ * 발급 저널을 coupons 테이블에 반영하고 반영한 만큼 저널을 비운다.
+ * 기동 시에는 빈 초기화 단계에서 남은 기록을 모두 반영하므로 웹 서버가 요청을 받기 전에 끝난다.
+ */
+@Slf4j
+@Component
+public class IssuanceJournalReplayer {
+
+    private final IssuanceJournal issuanceJournal;
+    private final CouponBatchIssuer couponBatchIssuer;
+    private final int batchSize;
+
+    public IssuanceJournalReplayer(
+        IssuanceJournal issuanceJournal,
+        CouponBatchIssuer couponBatchIssuer,
+        @Value("${coupon.journal.replay-batch-size}") int batchSize) {
+        this.issuanceJournal = issuanceJournal;
+        this.couponBatchIssuer = couponBatchIssuer;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * ✅ 기동 시 지난 실행에서 반영하지 못한 기록 복구 (실패하면 기동 중단)
+     */
+    @PostConstruct
+    void recover() {
+        if (!issuanceJournal.isEnabled()) {
+            return;
+        }
+        int recovered = 0;
+        int replayed;
+        while ((replayed = replayBatch()) > 0) {
+            recovered += replayed;
+        }
+        if (recovered > 0) {
+            log.info("Replayed {} journaled issuances before accepting traffic", recovered);
+        }
+    }
+
+    /**
+     * ✅ 주기적으로 저널 반영 (밀려 있으면 비울 때까지 연속 처리)
+     */
+    @Scheduled(fixedDelayString = "${coupon.journal.replay-interval-ms}")
+    public void replay() {
+        if (!issuanceJournal.isEnabled()) {
+            return;
+        }
+        try {
+            while (replayBatch() == batchSize) {
+                // 다음 배치
+            }
+        } catch (RuntimeException e) {
+            // 저널에 남아 있으므로 다음 주기에 다시 시도
+            log.warn("Failed to replay issuance journal", e);
+        }
+    }
+
+    private int replayBatch() {
+        List<JournalEntry> entries = issuanceJournal.pending(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        couponBatchIssuer.replay(entries);
+        issuanceJournal.markReplayed(entries.get(entries.size() - 1).sequence());
+        return entries.size();
+    }
+}
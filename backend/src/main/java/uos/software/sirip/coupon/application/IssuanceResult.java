@@ -0,0 +1,36 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급 엔진에 넣은 신청의 처리 결과. 처리 전이면 PENDING.
+ */
+public record IssuanceResult(
+    String requestId,
+    Long eventId,
+    Status status,
+    Long couponId,
+    LocalDateTime issuedAt
+) {
+
+    public enum Status {
+        PENDING,
+        ISSUED,
+        DUPLICATE,
+        SOLD_OUT,
+        CLOSED,
+        FAILED;
+
+        public boolean isFinished() {
+            return this != PENDING;
+        }
+    }
+
+    public static IssuanceResult pending(String requestId, Long eventId) {
+        return new IssuanceResult(requestId, eventId, Status.PENDING, null, null);
+    }
+
+    public static IssuanceResult of(String requestId, Long eventId, Status status) {
+        return new IssuanceResult(requestId, eventId, status, null, null);
+    }
+}
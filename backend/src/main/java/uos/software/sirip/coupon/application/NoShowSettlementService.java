@@ -0,0 +1,187 @@
+package uos.software.sirip.coupon.application;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uos.software.sirip.coupon.domain.CouponChangeType;
+import uos.software.sirip.coupon.infra.redis.RedisRedemptionLedger;
+
+/**
+ * 이벤트 종료 후 아직 ISSUED 인 쿠폰을 한꺼번에 NO_SHOW 로 정산한다.
+ *
+ * 쿠폰 id 순으로 청크를 나눠 청크마다 별도 트랜잭션에서 처리하고,
+ * 진행 위치(events.no_show_cursor)를 같은 트랜잭션에서 옮겨 중단되어도 이어서 처리한다.
+ * 커서 이동은 이전 값 조건부 UPDATE 라 여러 노드가 같은 청크를 중복 처리하지 않는다.
+ */
+@Slf4j
+@Service
+public class NoShowSettlementService {
+
+    private static final String SELECT_CHUNK_SQL = """
+        SELECT id, account_id FROM coupons
+        WHERE event_id = :eventId AND status = 'ISSUED' AND id > :cursor
+        ORDER BY id
+        LIMIT :limit
+        """;
+    private static final String ADVANCE_CURSOR_SQL = """
+        UPDATE events SET no_show_cursor = :nextCursor
+        WHERE id = :eventId AND no_show_cursor = :cursor AND no_show_settled_at IS NULL
+        """;
+    private static final String RELEASE_STOCK_SQL =
+        "UPDATE events SET remaining_coupons = remaining_coupons + :released WHERE id = :eventId";
+    private static final String MARK_NO_SHOW_SQL = """
+        UPDATE coupons SET status = 'NO_SHOW', no_show_at = :noShowAt
+        WHERE id IN (:ids) AND status = 'ISSUED'
+        """;
+    private static final String FINISH_SQL = """
+        UPDATE events SET no_show_settled_at = :settledAt
+        WHERE id = :eventId AND no_show_cursor = :cursor AND no_show_settled_at IS NULL
+        """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisRedemptionLedger redisRedemptionLedger;
+    private final PenaltyService penaltyService;
+    private final CouponOutbox couponOutbox;
+    private final Clock clock;
+    private final int chunkSize;
+    private final Duration grace;
+
+    public NoShowSettlementService(
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        RedisRedemptionLedger redisRedemptionLedger,
+        PenaltyService penaltyService,
+        CouponOutbox couponOutbox,
+        Clock clock,
+        @Value("${event.settlement.chunk-size}") int chunkSize,
+        @Value("${event.settlement.grace}") Duration grace) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.redisRedemptionLedger = redisRedemptionLedger;
+        this.penaltyService = penaltyService;
+        this.couponOutbox = couponOutbox;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.grace = grace;
+    }
+
+    public Duration grace() {
+        return grace;
+    }
+
+    /**
+     * ✅ 노쇼 일괄 정산 (청크 단위, 처리한 쿠폰 수 반환)
+     */
+    public int settle(Long eventId) {
+        int total = 0;
+        while (true) {
+            ChunkResult chunk = transactionTemplate.execute(status -> settleChunk(eventId));
+            if (chunk == null || chunk.done()) {
+                break;
+            }
+            total += chunk.noShows();
+        }
+        log.info("No-show settlement for event {} finished, {} coupons", eventId, total);
+        return total;
+    }
+
+    private ChunkResult settleChunk(Long eventId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<String, Object> progress = namedParameterJdbcTemplate.queryForMap(
+            "SELECT end_at, no_show_cursor, no_show_settled_at FROM events WHERE id = :eventId",
+            Map.of("eventId", eventId));
+        LocalDateTime endAt = ((Timestamp) progress.get("end_at")).toLocalDateTime();
+        if (progress.get("no_show_settled_at") != null || endAt.plus(grace).isAfter(now)) {
+            // 이미 정산되었거나 일정이 뒤로 밀림
+            return ChunkResult.finished();
+        }
+        long cursor = ((Number) progress.get("no_show_cursor")).longValue();
+
+        List<Long> couponIds = new ArrayList<>();
+        Map<Long, Long> accountByCoupon = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_CHUNK_SQL,
+            new MapSqlParameterSource("eventId", eventId)
+                .addValue("cursor", cursor)
+                .addValue("limit", chunkSize),
+            rs -> {
+                long couponId = rs.getLong("id");
+                couponIds.add(couponId);
+                accountByCoupon.put(couponId, rs.getLong("account_id"));
+            });
+
+        if (couponIds.isEmpty()) {
+            namedParameterJdbcTemplate.update(FINISH_SQL, new MapSqlParameterSource("eventId", eventId)
+                .addValue("cursor", cursor)
+                .addValue("settledAt", Timestamp.valueOf(now)));
+            return ChunkResult.finished();
+        }
+
+        long nextCursor = couponIds.get(couponIds.size() - 1);
+        int advanced = namedParameterJdbcTemplate.update(ADVANCE_CURSOR_SQL,
+            new MapSqlParameterSource("eventId", eventId)
+                .addValue("cursor", cursor)
+                .addValue("nextCursor", nextCursor));
+        if (advanced == 0) {
+            // 다른 노드가 같은 청크를 가져감 → 그쪽에서 이어서 처리
+            return ChunkResult.finished();
+        }
+
+        // 토큰으로 사용되었지만 아직 DB 에 반영되지 않은 쿠폰은 제외하고, 나머지는 사용 비트를 선점
+        Set<Long> redeemed = redisRedemptionLedger.claim(couponIds);
+        List<Long> noShowIds = couponIds.stream().filter(id -> !redeemed.contains(id)).toList();
+        unclaimOnRollback(noShowIds);
+
+        if (!noShowIds.isEmpty()) {
+            namedParameterJdbcTemplate.update(MARK_NO_SHOW_SQL,
+                new MapSqlParameterSource("ids", noShowIds)
+                    .addValue("noShowAt", Timestamp.valueOf(now)));
+            couponOutbox.appendAll(CouponChangeType.NO_SHOW, noShowIds);
+
+            Map<Long, Long> couponByAccount = new HashMap<>();
+            noShowIds.forEach(id -> couponByAccount.putIfAbsent(accountByCoupon.get(id), id));
+            penaltyService.imposeAll(couponByAccount);
+
+            // 청크 단위로 한 번만 재고 반영 (종료된 이벤트라 대기열 승급은 하지 않음)
+            namedParameterJdbcTemplate.update(RELEASE_STOCK_SQL,
+                new MapSqlParameterSource("eventId", eventId)
+                    .addValue("released", noShowIds.size()));
+        }
+        return new ChunkResult(noShowIds.size(), false);
+    }
+
+    private void unclaimOnRollback(List<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisRedemptionLedger.unclaim(couponIds);
+                }
+            }
+        });
+    }
+
+    private record ChunkResult(int noShows, boolean done) {
+
+        static ChunkResult finished() {
+            return new ChunkResult(0, true);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package uos.software.sirip.coupon.application;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uos.software.sirip.coupon.domain.Penalty;
+import uos.software.sirip.coupon.domain.PenaltyJpaEntity;
+import uos.software.sirip.coupon.domain.PenaltyJpaRepository;
+import uos.software.sirip.coupon.infra.redis.RedisPenaltyStore;
+
+/**
+ * 노쇼 패널티 (기간제).
+ * 판정은 Redis 키 존재 여부 O(1), 이력은 penalties 테이블에 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PenaltyService {
+
+    private static final int PENALTY_MONTHS = 6;
+    private static final String INSERT_SQL =
+        "INSERT INTO penalties (account_id, coupon_id, starts_at, ends_at) VALUES (?, ?, ?, ?)";
+    // 레거시 account.penalty 플래그 이관 (잠가서 여러 노드가 동시에 기동해도 한 번만 옮긴다)
+    private static final String LOCK_LEGACY_SQL =
+        "SELECT account_id FROM account WHERE penalty = true FOR UPDATE";
+    private static final String CLEAR_LEGACY_SQL =
+        "UPDATE account SET penalty = false WHERE account_id = ?";
+
+    private final PenaltyJpaRepository penaltyJpaRepository;
+    private final RedisPenaltyStore redisPenaltyStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    /**
+     * ✅ 패널티 적용 여부 (Redis 장애 시 DB 조회)
+     */
+    @Transactional(readOnly = true)
+    public boolean isPenalized(Long accountId) {
+        try {
+            return redisPenaltyStore.isActive(accountId);
+        } catch (DataAccessException e) {
+            log.warn("Penalty lookup fell back to database for account {}", accountId, e);
+            LocalDateTime now = LocalDateTime.now(clock);
+            return penaltyJpaRepository.existsByAccountIdAndStartsAtLessThanEqualAndEndsAtAfter(
+                accountId, now, now);
+        }
+    }
+
+    /**
+     * ✅ 노쇼 패널티 부여 (커밋 후 Redis 반영)
+     */
+    public Penalty impose(Long accountId, Long couponId) {
+        Penalty penalty = newPenalty(accountId);
+        Penalty saved = penaltyJpaRepository.save(PenaltyJpaEntity.of(penalty, couponId)).toDomain();
+        afterCommit(() -> redisPenaltyStore.extend(accountId, toInstant(saved.getEndsAt())));
+        return saved;
+    }
+
+    /**
+     * ✅ 여러 계정에 한 번에 부여 (JDBC 배치 + Redis 파이프라인)
+     */
+    public void imposeAll(Map<Long, Long> couponIdByAccount) {
+        if (couponIdByAccount.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(couponIdByAccount.size());
+        Map<Long, Instant> endsAtByAccount = new HashMap<>();
+        couponIdByAccount.forEach((accountId, couponId) -> {
+            Penalty penalty = newPenalty(accountId);
+            rows.add(new Object[]{accountId, couponId,
+                Timestamp.valueOf(penalty.getStartsAt()), Timestamp.valueOf(penalty.getEndsAt())});
+            endsAtByAccount.put(accountId, toInstant(penalty.getEndsAt()));
+        });
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        afterCommit(() -> redisPenaltyStore.extendAll(endsAtByAccount));
+    }
+
+    /**
+     * ✅ 관리자용 패널티 이력 (최근 순)
+     */
+    @Transactional(readOnly = true)
+    public List<Penalty> history(Long accountId) {
+        return penaltyJpaRepository.findByAccountIdOrderByStartsAtDesc(accountId).stream()
+            .map(PenaltyJpaEntity::toDomain)
+            .toList();
+    }
+
+    /**
+     * ✅ 기동 시 레거시 패널티 플래그를 penalties 로 옮기고,
+     * 진행 중인 패널티를 Redis 에 다시 기록 (Redis 데이터 유실 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreActivePenalties() {
+        backfillLegacyPenalties();
+
+        Map<Long, Instant> endsAtByAccount = new HashMap<>();
+        try (Stream<PenaltyJpaEntity> active =
+                 penaltyJpaRepository.streamByEndsAtAfter(LocalDateTime.now(clock))) {
+            active.forEach(penalty -> endsAtByAccount.merge(penalty.getAccountId(),
+                toInstant(penalty.getEndsAt()), (a, b) -> a.isAfter(b) ? a : b));
+        }
+        redisPenaltyStore.extendAll(endsAtByAccount);
+        log.info("Restored {} active penalties to Redis", endsAtByAccount.size());
+    }
+
+    /**
+     * account.penalty = true 인 계정에 지금부터 기간제 패널티를 부여하고 플래그를 내린다.
+     * (판정은 penalties + Redis 만 보므로 옮기지 않으면 패널티가 풀린 것과 같다)
+     */
+    private void backfillLegacyPenalties() {
+        List<Long> accountIds = jdbcTemplate.queryForList(LOCK_LEGACY_SQL, Long.class);
+        if (accountIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(accountIds.size());
+        for (Long accountId : accountIds) {
+            Penalty penalty = newPenalty(accountId);
+            rows.add(new Object[]{accountId, null,
+                Timestamp.valueOf(penalty.getStartsAt()), Timestamp.valueOf(penalty.getEndsAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        jdbcTemplate.batchUpdate(CLEAR_LEGACY_SQL,
+            accountIds.stream().map(accountId -> new Object[]{accountId}).toList());
+        log.info("Backfilled {} legacy account penalties", accountIds.size());
+    }
+
+    private Penalty newPenalty(Long accountId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return Penalty.create(accountId, now, now.plusMonths(PENALTY_MONTHS));
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package uos.software.sirip.coupon.application;
+
+public enum RedeemOutcome {
+    REDEEMED,
+    ALREADY_REDEEMED,
+    NOT_FOUND,
+    NOT_OWNED,
+    INVALID_STATE
+}
@@ -0,0 +1,11 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.LocalDateTime;
+
+public record TokenRedemptionResult(
+    Long couponId,
+    Long eventId,
+    Long accountId,
+    LocalDateTime redeemedAt
+) {
+}
@@ -0,0 +1,101 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uos.software.sirip.coupon.exception.AdmissionRequiredException;
+import uos.software.sirip.coupon.exception.WaitingRoomTicketNotFoundException;
+import uos.software.sirip.coupon.infra.redis.RedisWaitingRoom;
+import uos.software.sirip.coupon.infra.redis.RedisWaitingRoom.Admission;
+import uos.software.sirip.coupon.infra.token.AdmissionClaims;
+import uos.software.sirip.coupon.infra.token.AdmissionTokenCodec;
+
+/**
+ * 오픈 직후 신청 몰림을 대기실에서 정해진 속도로 흘려보낸다.
+ * 번호표 발급 · 조회는 Redis 만 쓰고, 입장 허용된 계정에게 짧은 유효기간의 서명 토큰을 준다.
+ * 신청 API 는 이 토큰이 있는 요청만 받으므로 백엔드가 받는 신청 속도가 허용 속도로 제한된다.
+ */
+@Service
+public class WaitingRoomService {
+
+    private final RedisWaitingRoom redisWaitingRoom;
+    private final AdmissionTokenCodec admissionTokenCodec;
+    private final Clock clock;
+    private final boolean enabled;
+    private final double admitPerSecond;
+    private final Duration admissionTtl;
+    private final Duration ticketTtl;
+
+    public WaitingRoomService(
+        RedisWaitingRoom redisWaitingRoom,
+        AdmissionTokenCodec admissionTokenCodec,
+        Clock clock,
+        @Value("${waiting-room.enabled}") boolean enabled,
+        @Value("${waiting-room.admit-per-second}") double admitPerSecond,
+        @Value("${waiting-room.admission-ttl}") Duration admissionTtl,
+        @Value("${waiting-room.ticket-ttl}") Duration ticketTtl) {
+        this.redisWaitingRoom = redisWaitingRoom;
+        this.admissionTokenCodec = admissionTokenCodec;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.admitPerSecond = admitPerSecond;
+        this.admissionTtl = admissionTtl;
+        this.ticketTtl = ticketTtl;
+    }
+
+    /**
+     * ✅ 대기실 오픈 시각 설정 (이 시각부터 입장 허용 시작)
+     */
+    public void open(Long eventId, Instant opensAt, Instant expireAt) {
+        redisWaitingRoom.open(eventId, opensAt, expireAt);
+    }
+
+    /**
+     * ✅ 번호표 받기 (이미 받았으면 같은 번호)
+     */
+    public WaitingRoomStatus join(Long accountId, Long eventId) {
+        redisWaitingRoom.join(eventId, accountId, ticketTtl);
+        return status(accountId, eventId);
+    }
+
+    /**
+     * ✅ 내 순서 조회 (입장 허용되면 입장 토큰 발급)
+     */
+    public WaitingRoomStatus status(Long accountId, Long eventId) {
+        Admission admission = redisWaitingRoom.admit(eventId, accountId, admitPerSecond);
+        if (admission.ticket() == null) {
+            throw new WaitingRoomTicketNotFoundException(eventId);
+        }
+
+        long ticket = admission.ticket();
+        long position = Math.max(ticket - admission.admittedThrough(), 0);
+        if (position > 0) {
+            long waitMillis = admission.opensInMillis()
+                + (long) Math.ceil(position * 1000 / admitPerSecond);
+            return new WaitingRoomStatus(eventId, ticket, position, false, null, null, waitMillis);
+        }
+
+        Instant expiresAt = Instant.now(clock).plus(admissionTtl);
+        String token = admissionTokenCodec.encode(new AdmissionClaims(eventId, accountId, expiresAt));
+        return new WaitingRoomStatus(eventId, ticket, 0, true, token, expiresAt, 0);
+    }
+
+    /**
+     * ✅ 신청 요청의 입장 토큰 검증 (대기실을 끈 경우 통과)
+     */
+    public void verifyAdmission(Long accountId, Long eventId, String token) {
+        if (!enabled) {
+            return;
+        }
+        boolean valid = token != null && admissionTokenCodec.decode(token)
+            .filter(claims -> claims.eventId().equals(eventId))
+            .filter(claims -> claims.accountId().equals(accountId))
+            .filter(claims -> claims.expiresAt().isAfter(Instant.now(clock)))
+            .isPresent();
+        if (!valid) {
+            throw new AdmissionRequiredException(eventId);
+        }
+    }
+}
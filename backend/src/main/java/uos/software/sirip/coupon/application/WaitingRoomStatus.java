@@ -0,0 +1,18 @@
+package uos.software.sirip.coupon.application;
+
+import java.time.Instant;
+
+/**
+ * 대기실 상태. 입장 허용되면 admissionToken 을 신청 요청 헤더(X-Admission-Token)로 보낸다.
+ * retryAfterMillis 는 현재 허용 속도 기준 예상 대기 시간 (다음 조회 간격 참고용).
+ */
+public record WaitingRoomStatus(
+    Long eventId,
+    long ticket,
+    long position,
+    boolean admitted,
+    String admissionToken,
+    Instant admissionExpiresAt,
+    long retryAfterMillis
+) {
+}
@@ -0,0 +1,37 @@
+package uos.software.sirip.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 이벤트의 Redis 신청 집합(coupon:{eventId}:applied) 보관본.
+ * 행은 CouponStockLifecycleService 가 JDBC 배치로 적재한다.
+ */
+@Entity
+@Table(name = "coupon_application_archive",
+    indexes = @Index(name = "idx_archive_event", columnList = "event_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponApplicationArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,29 @@
+package uos.software.sirip.coupon.domain;
+
+/**
+ * 아웃박스에 기록하는 쿠폰 상태 변경 종류.
+ * 변경 후 상태와 그 시각이 담긴 컬럼을 함께 둬서 일괄 기록 시 행에서 바로 읽는다.
+ */
+public enum CouponChangeType {
+    ISSUED(CouponStatus.ISSUED, "issued_at"),
+    PROMOTED(CouponStatus.ISSUED, "issued_at"),
+    REDEEMED(CouponStatus.REDEEMED, "redeemed_at"),
+    NO_SHOW(CouponStatus.NO_SHOW, "no_show_at"),
+    CANCELLED(CouponStatus.CANCELLED, "cancelled_at");
+
+    private final CouponStatus status;
+    private final String timestampColumn;
+
+    CouponChangeType(CouponStatus status, String timestampColumn) {
+        this.status = status;
+        this.timestampColumn = timestampColumn;
+    }
+
+    public CouponStatus status() {
+        return status;
+    }
+
+    public String timestampColumn() {
+        return timestampColumn;
+    }
+}
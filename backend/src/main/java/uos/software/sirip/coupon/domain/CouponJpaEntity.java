@@ -9,7 +9,8 @@ import uos.software.sirip.event.infra.jpa.Event;
 import uos.software.sirip.user.domain.Account;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons",
+    indexes = @Index(name = "idx_coupon_waitlist", columnList = "event_id, status, queue_position"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CouponJpaEntity {
@@ -26,17 +27,24 @@ public class CouponJpaEntity {
     @JoinColumn(name = "account_id")
     private Account account;
 
+    // MySQL enum(...) 으로 만들어지면 상태를 추가할 때마다 컬럼 변경이 필요하므로 VARCHAR 로 고정
     @Enumerated(EnumType.STRING)
+    @Column(length = 20, columnDefinition = "varchar(20)")
     private CouponStatus status;
 
     private LocalDateTime appliedAt;
     private LocalDateTime issuedAt;
     private LocalDateTime redeemedAt;
     private LocalDateTime noShowAt;
+    private LocalDateTime cancelledAt;
 
     @Column(name = "queue_position")
     private Integer queuePosition;
 
+    // 쿠폰 풀 이벤트에서 미리 만들 때 부여하는 쿠폰 코드 (그 외에는 null)
+    @Column(unique = true, length = 16)
+    private String code;
+
     // 정적 팩토리 메서드
     public static CouponJpaEntity issued(Event event, Account account, LocalDateTime appliedAt,
         LocalDateTime issuedAt) {
@@ -1,8 +1,12 @@
 package uos.software.sirip.coupon.domain;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import uos.software.sirip.user.domain.Account;
 
 public interface CouponJpaRepository extends JpaRepository<CouponJpaEntity, Long> {
@@ -13,6 +17,22 @@ public interface CouponJpaRepository extends JpaRepository<CouponJpaEntity, Long
 
     int countByEventIdAndStatus(Long eventId, CouponStatus status);
 
+    /**
+     * 대기 순번은 취소 승급 시 당기지 않으므로 (빈 번호 허용) 마지막 번호 다음을 쓴다.
+     */
+    @Query("select coalesce(max(c.queuePosition), 0) from CouponJpaEntity c "
+        + "where c.event.id = :eventId and c.status = :status")
+    int findMaxQueuePosition(@Param("eventId") Long eventId, @Param("status") CouponStatus status);
+
+    /**
+     * 취소 (이전 상태 조건부, 동시에 상태가 바뀌었으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CouponJpaEntity c set c.status = :cancelled, c.cancelledAt = :cancelledAt, "
+        + "c.queuePosition = null where c.id = :couponId and c.status = :previous")
+    int cancel(@Param("couponId") Long couponId, @Param("previous") CouponStatus previous,
+        @Param("cancelled") CouponStatus cancelled, @Param("cancelledAt") LocalDateTime cancelledAt);
+
     List<CouponJpaEntity> findByEventIdAndStatusOrderByQueuePositionAsc(Long eventId,
         CouponStatus status);
 }
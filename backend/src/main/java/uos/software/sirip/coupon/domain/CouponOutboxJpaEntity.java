@@ -0,0 +1,49 @@
+package uos.software.sirip.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쿠폰 상태 변경 아웃박스. 상태 변경과 같은 트랜잭션에서 JDBC 로 기록하고,
+ * 릴레이가 전달한 뒤 삭제하므로 테이블에는 아직 전달되지 않은 행만 남는다.
+ */
+@Entity
+@Table(name = "coupon_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponOutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private CouponChangeType type;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // 릴레이가 꺼내 전달 중인 행의 임대 만료 시각 (지나면 다른 릴레이가 다시 꺼낸다)
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+}
@@ -5,7 +5,9 @@ public enum CouponStatus {
     REDEEMED,
     WAITING,
     CANCELLED,
-    NO_SHOW;
+    NO_SHOW,
+    // 쿠폰 풀 이벤트에서 미리 만들어 두고 아직 배정하지 않은 쿠폰
+    MINTED;
 
     public boolean isTerminal() {
         return this == REDEEMED || this == CANCELLED || this == NO_SHOW;
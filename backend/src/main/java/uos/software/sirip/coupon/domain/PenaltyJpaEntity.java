@@ -0,0 +1,58 @@
+package uos.software.sirip.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기간제 패널티 이력. 적용 여부 판정은 Redis(penalty:{accountId}, TTL = 종료 시각)로 하고,
+ * 이 테이블은 관리자 조회와 Redis 복구용 원본으로 쓴다.
+ */
+@Entity
+@Table(name = "penalties",
+    indexes = {
+        @Index(name = "idx_penalty_account", columnList = "account_id, starts_at"),
+        @Index(name = "idx_penalty_ends", columnList = "ends_at")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PenaltyJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 노쇼 처리된 쿠폰 (없으면 null)
+    @Column(name = "coupon_id")
+    private Long couponId;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    public static PenaltyJpaEntity of(Penalty penalty, Long couponId) {
+        PenaltyJpaEntity entity = new PenaltyJpaEntity();
+        entity.accountId = penalty.getAccountId();
+        entity.couponId = couponId;
+        entity.startsAt = penalty.getStartsAt();
+        entity.endsAt = penalty.getEndsAt();
+        return entity;
+    }
+
+    public Penalty toDomain() {
+        return new Penalty(id, accountId, startsAt, endsAt);
+    }
+}
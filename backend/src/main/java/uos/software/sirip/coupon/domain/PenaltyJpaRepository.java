@@ -0,0 +1,16 @@
+package uos.software.sirip.coupon.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PenaltyJpaRepository extends JpaRepository<PenaltyJpaEntity, Long> {
+
+    List<PenaltyJpaEntity> findByAccountIdOrderByStartsAtDesc(Long accountId);
+
+    boolean existsByAccountIdAndStartsAtLessThanEqualAndEndsAtAfter(Long accountId,
+        LocalDateTime startsAt, LocalDateTime endsAt);
+
+    Stream<PenaltyJpaEntity> streamByEndsAtAfter(LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package uos.software.sirip.coupon.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class AdmissionRequiredException extends RuntimeException {
+
+    public AdmissionRequiredException(Long eventId) {
+        super("대기실 입장 토큰이 없거나 만료되었습니다. eventId=" + eventId);
+    }
+}
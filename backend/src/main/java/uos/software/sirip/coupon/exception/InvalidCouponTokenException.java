@@ -0,0 +1,12 @@
+package uos.software.sirip.coupon.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCouponTokenException extends RuntimeException {
+
+    public InvalidCouponTokenException() {
+        super("유효하지 않은 쿠폰 토큰입니다.");
+    }
+}
@@ -0,0 +1,12 @@
+package uos.software.sirip.coupon.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRedeemBatchException extends RuntimeException {
+
+    public InvalidRedeemBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package uos.software.sirip.coupon.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class IssuanceEngineBusyException extends RuntimeException {
+
+    public IssuanceEngineBusyException(Long eventId) {
+        super("신청이 몰려 잠시 후 다시 시도해 주세요. eventId=" + eventId);
+    }
+}
@@ -0,0 +1,12 @@
+package uos.software.sirip.coupon.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class IssuanceRequestNotFoundException extends RuntimeException {
+
+    public IssuanceRequestNotFoundException(String requestId) {
+        super("신청 요청을 찾을 수 없습니다. requestId=" + requestId);
+    }
+}
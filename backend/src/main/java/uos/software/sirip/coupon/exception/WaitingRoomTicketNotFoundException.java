@@ -0,0 +1,12 @@
+package uos.software.sirip.coupon.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class WaitingRoomTicketNotFoundException extends RuntimeException {
+
+    public WaitingRoomTicketNotFoundException(Long eventId) {
+        super("대기실 번호표가 없습니다. 먼저 입장하세요. eventId=" + eventId);
+    }
+}
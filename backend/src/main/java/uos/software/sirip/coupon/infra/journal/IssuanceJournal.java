@@ -0,0 +1,307 @@
+package uos.software.sirip.coupon.infra.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 발급 저널. MySQL 커밋 대신 여기에 기록하고 fsync 되면 발급 완료로 응답한다.
+ *
+ * 파일 전체를 메모리 매핑하고 고정 길이 레코드를 뒤에 덧붙인다.
+ *   헤더(16B)   : magic(int) · version(int) · replayedSequence(long, DB 반영이 끝난 마지막 번호)
+ *   레코드(40B) : sequence · eventId · accountId · issuedAt(epoch micros) · crc32c(int) · 예약(int)
+ * 여러 요청의 기록을 플러셔 스레드가 모아서 한 번에 force(msync) 하고(그룹 커밋),
+ * 요청 스레드는 자기 레코드가 디스크에 내려갈 때까지 기다린다.
+ *
+ * 반영이 모두 끝나면 쓰기 위치를 처음으로 되돌린다(잘라내기). 지우지 않으므로
+ * 복구 시에는 번호가 1씩 이어지고 CRC 가 맞는 레코드까지만 유효하다.
+ */
+@Slf4j
+@Component
+public class IssuanceJournal {
+
+    private static final int MAGIC = 0x534A524E; // "SJRN"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int REPLAYED_OFFSET = 8;
+    private static final int RECORD_SIZE = 40;
+    private static final int CRC_OFFSET = 32;
+
+    private final boolean enabled;
+    private final Path path;
+    private final int capacity;
+    private final long groupCommitNanos;
+
+    private final Object appendLock = new Object();
+    private final Object flushLock = new Object();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private Thread flusher;
+    private volatile boolean running;
+
+    // appendLock 안에서만 변경
+    private int writePosition = HEADER_SIZE;
+    private long nextSequence = 1;
+    private long replayedSequence;
+    private int replayPosition = HEADER_SIZE;
+    private int durablePosition = HEADER_SIZE;
+    // 전부 반영되어 위치를 처음으로 되돌릴 때마다 증가 (되돌리기 전에 잡은 flush 결과는 버린다)
+    private long resetGeneration;
+
+    // flushLock 으로 대기 · 통지
+    private volatile long writtenSequence;
+    private volatile long durableSequence;
+
+    public IssuanceJournal(
+        @Value("${coupon.journal.enabled}") boolean enabled,
+        @Value("${coupon.journal.path}") String path,
+        @Value("${coupon.journal.capacity-bytes}") int capacity,
+        @Value("${coupon.journal.group-commit-wait}") Duration groupCommitWait) {
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.capacity = HEADER_SIZE + (capacity - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+        this.groupCommitNanos = groupCommitWait.toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(REPLAYED_OFFSET, 0);
+            buffer.force(0, HEADER_SIZE);
+        }
+        recover();
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "issuance-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 마지막 반영 번호 뒤로 이어지는 유효 레코드를 찾아 쓰기 위치를 정한다.
+     */
+    private void recover() {
+        replayedSequence = buffer.getLong(REPLAYED_OFFSET);
+        int position = HEADER_SIZE;
+        long lastSequence = 0;
+        int pendingFrom = -1;
+        while (position + RECORD_SIZE <= capacity) {
+            long sequence = buffer.getLong(position);
+            if (sequence <= 0 || !crcMatches(position)
+                || (lastSequence != 0 && sequence != lastSequence + 1)) {
+                break;
+            }
+            if (sequence > replayedSequence && pendingFrom < 0) {
+                pendingFrom = position;
+            }
+            lastSequence = sequence;
+            position += RECORD_SIZE;
+        }
+
+        if (pendingFrom < 0) {
+            // 남은 기록 없음 → 처음부터 다시 쓴다
+            nextSequence = Math.max(lastSequence, replayedSequence) + 1;
+            writePosition = HEADER_SIZE;
+            replayPosition = HEADER_SIZE;
+        } else {
+            nextSequence = lastSequence + 1;
+            writePosition = position;
+            replayPosition = pendingFrom;
+            log.warn("Recovered {} unreplayed issuances from journal {}",
+                lastSequence - replayedSequence, path);
+        }
+        writtenSequence = nextSequence - 1;
+        durableSequence = writtenSequence;
+        durablePosition = writePosition;
+    }
+
+    /**
+     * ✅ 발급 기록 후 디스크에 내려갈 때까지 대기. 저널이 가득 찼으면 false (호출 측이 DB 에 직접 기록)
+     */
+    public boolean append(Long eventId, Long accountId, LocalDateTime issuedAt) {
+        long sequence;
+        synchronized (appendLock) {
+            if (!running) {
+                throw new IllegalStateException("Issuance journal is not accepting appends");
+            }
+            if (writePosition + RECORD_SIZE > capacity) {
+                return false;
+            }
+            sequence = nextSequence++;
+            int position = writePosition;
+            buffer.putLong(position, sequence);
+            buffer.putLong(position + 8, eventId);
+            buffer.putLong(position + 16, accountId);
+            buffer.putLong(position + 24, toMicros(issuedAt));
+            buffer.putInt(position + CRC_OFFSET, crc(position));
+            buffer.putInt(position + CRC_OFFSET + 4, 0);
+            writePosition += RECORD_SIZE;
+            writtenSequence = sequence;
+        }
+        awaitDurable(sequence);
+        return true;
+    }
+
+    /**
+     * ✅ 디스크에 내려갔지만 아직 DB 에 반영되지 않은 기록 (최대 limit 건)
+     */
+    public List<JournalEntry> pending(int limit) {
+        synchronized (appendLock) {
+            int end = Math.min(durablePosition, writePosition);
+            List<JournalEntry> entries = new ArrayList<>();
+            for (int position = replayPosition; position < end && entries.size() < limit;
+                position += RECORD_SIZE) {
+                entries.add(new JournalEntry(
+                    buffer.getLong(position),
+                    buffer.getLong(position + 8),
+                    buffer.getLong(position + 16),
+                    fromMicros(buffer.getLong(position + 24))));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * ✅ sequence 까지 DB 반영 완료 기록. 전부 반영됐으면 쓰기 위치를 처음으로 되돌린다.
+     */
+    public void markReplayed(long sequence) {
+        synchronized (appendLock) {
+            replayPosition += (int) (sequence - replayedSequence) * RECORD_SIZE;
+            replayedSequence = sequence;
+            buffer.putLong(REPLAYED_OFFSET, sequence);
+            buffer.force(0, HEADER_SIZE);
+
+            if (replayedSequence == nextSequence - 1) {
+                writePosition = HEADER_SIZE;
+                replayPosition = HEADER_SIZE;
+                durablePosition = HEADER_SIZE;
+                resetGeneration++;
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        buffer.force();
+        channel.close();
+    }
+
+    private void awaitDurable(long sequence) {
+        synchronized (flushLock) {
+            flushLock.notifyAll();
+            while (durableSequence < sequence) {
+                if (!running) {
+                    throw new IllegalStateException("Issuance journal is closed");
+                }
+                try {
+                    flushLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for journal flush", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 기록이 생기면 groupCommitWait 만큼 더 모은 뒤 한 번에 force
+     */
+    private void flushLoop() {
+        try {
+            while (running) {
+                synchronized (flushLock) {
+                    while (running && writtenSequence == durableSequence) {
+                        flushLock.wait();
+                    }
+                }
+                TimeUnit.NANOSECONDS.sleep(groupCommitNanos);
+
+                long target;
+                int targetPosition;
+                long generation;
+                synchronized (appendLock) {
+                    target = writtenSequence;
+                    targetPosition = writePosition;
+                    generation = resetGeneration;
+                }
+                buffer.force();
+                // 위치는 markReplayed 와 같은 락에서 갱신: force 도중 위치가 처음으로 되돌려졌으면
+                // 예전 위치로 덮어쓰지 않는다 (되돌린 뒤 추가된 기록은 다음 flush 가 반영)
+                synchronized (appendLock) {
+                    if (generation == resetGeneration) {
+                        durablePosition = targetPosition;
+                    }
+                }
+                synchronized (flushLock) {
+                    durableSequence = target;
+                    flushLock.notifyAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (UncheckedIOException e) {
+            log.error("Issuance journal flush failed, rejecting further appends", e);
+            running = false;
+        } finally {
+            synchronized (flushLock) {
+                flushLock.notifyAll();
+            }
+        }
+    }
+
+    private boolean crcMatches(int position) {
+        return buffer.getInt(position + CRC_OFFSET) == crc(position);
+    }
+
+    private int crc(int position) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+            (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
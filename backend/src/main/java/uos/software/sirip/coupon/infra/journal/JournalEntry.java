@@ -0,0 +1,9 @@
+package uos.software.sirip.coupon.infra.journal;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저널에 기록된 발급 한 건 (sequence 는 노드 안에서 1씩 증가)
+ */
+public record JournalEntry(long sequence, long eventId, long accountId, LocalDateTime issuedAt) {
+}
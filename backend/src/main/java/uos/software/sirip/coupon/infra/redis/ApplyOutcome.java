@@ -0,0 +1,21 @@
+package uos.software.sirip.coupon.infra.redis;
+
+public enum ApplyOutcome {
+    ISSUED,
+    DUPLICATE,
+    SOLD_OUT,
+    NOT_INITIALIZED;
+
+    static ApplyOutcome fromScriptResult(Long result) {
+        if (result == null) {
+            throw new IllegalStateException("Redis 신청 스크립트 결과가 비어 있습니다.");
+        }
+        return switch (result.intValue()) {
+            case 1 -> ISSUED;
+            case 0 -> DUPLICATE;
+            case -1 -> SOLD_OUT;
+            case -2 -> NOT_INITIALIZED;
+            default -> throw new IllegalStateException("Unknown apply result: " + result);
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package uos.software.sirip.coupon.infra.redis;
+
+/**
+ * 한 스크립트가 함께 다루는 이벤트별 키(remain, applied, pool)는 {eventId} 해시 태그로
+ * 같은 클러스터 슬롯에 둔다. 태그가 없으면 Redis Cluster 에서 CROSSSLOT 으로 실패한다.
+ */
+public final class CouponRedisKeys {
+
+    private CouponRedisKeys() {
+    }
+
+    public static String remain(Long eventId) {
+        return "coupon:{" + eventId + "}:remain";
+    }
+
+    /**
+     * 분할 재고 키. 칸마다 해시 태그가 달라 클러스터에서 서로 다른 슬롯에 놓인다.
+     */
+    public static String remainStripe(Long eventId, int stripe) {
+        return "coupon:{" + eventId + "-" + stripe + "}:remain";
+    }
+
+    /**
+     * 분할 이벤트의 신청 기록 조각. accountId % stripes 번째 칸 재고와 같은 슬롯에 둔다.
+     */
+    public static String appliedStripe(Long eventId, int stripe) {
+        return "coupon:{" + eventId + "-" + stripe + "}:applied";
+    }
+
+    public static String appliedBitmapStripe(Long eventId, int stripe) {
+        return "coupon:{" + eventId + "-" + stripe + "}:applied:bitmap";
+    }
+
+    /**
+     * 자기 칸이 비어 다른 칸에서 빌리는 중인 신청 (ZSET, score = 시작 시각 ms)
+     */
+    public static String pendingStripe(Long eventId, int stripe) {
+        return "coupon:{" + eventId + "-" + stripe + "}:pending";
+    }
+
+    /**
+     * 이 칸에서 재고를 빌려 간 계정 (SET, 확정되면 지운다)
+     */
+    public static String borrowedStripe(Long eventId, int stripe) {
+        return "coupon:{" + eventId + "-" + stripe + "}:borrowed";
+    }
+
+    public static String applied(Long eventId) {
+        return "coupon:{" + eventId + "}:applied";
+    }
+
+    /**
+     * 미리 만든(미배정) 쿠폰 id 목록 (LIST)
+     */
+    public static String pool(Long eventId) {
+        return "coupon:{" + eventId + "}:pool";
+    }
+
+    public static String appliedBitmap(Long eventId) {
+        return "coupon:{" + eventId + "}:applied:bitmap";
+    }
+
+    /**
+     * 사용(또는 노쇼로 사용 불가) 처리된 쿠폰 비트맵. 오프셋 = couponId
+     * 사용 비트맵 · 반영 대기열 · 반영 락은 redeem_token.lua 가 함께 다루므로 {redeem} 태그로 한 슬롯에 둔다.
+     */
+    public static String redeemed() {
+        return "coupon:{redeem}:bitmap";
+    }
+
+    public static String redeemQueue() {
+        return "coupon:{redeem}:queue";
+    }
+
+    public static String redeemFlushLock() {
+        return "coupon:{redeem}:flush-lock";
+    }
+
+    /**
+     * 태그 없이 쓰던 이전 이름 (기동 시 새 이름으로 옮긴다)
+     */
+    static String legacyRedeemed() {
+        return "coupon:redeemed";
+    }
+
+    static String legacyRedeemQueue() {
+        return "coupon:redeem:queue";
+    }
+
+    public static String stateChanges() {
+        return "coupon:state-changes";
+    }
+}
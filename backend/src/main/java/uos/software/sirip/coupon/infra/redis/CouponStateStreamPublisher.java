@@ -0,0 +1,56 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import uos.software.sirip.coupon.application.CouponStateChange;
+import uos.software.sirip.coupon.application.CouponStateChangeSubscriber;
+
+/**
+ * 쿠폰 상태 변경을 Redis Stream 으로 내보낸다 (다른 프로세스 소비자용).
+ * 배치 하나를 파이프라인 한 번으로 XADD 하고, 길이는 대략 maxLength 로 유지한다.
+ */
+@Component
+@ConditionalOnProperty(name = "coupon.outbox.stream.enabled", havingValue = "true")
+public class CouponStateStreamPublisher implements CouponStateChangeSubscriber {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long maxLength;
+
+    public CouponStateStreamPublisher(
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${coupon.outbox.stream.max-length}") long maxLength) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void onChanges(List<CouponStateChange> changes) {
+        XAddOptions options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (CouponStateChange change : changes) {
+                redis.xAdd(StreamRecords.string(fields(change))
+                    .withStreamKey(CouponRedisKeys.stateChanges()), options);
+            }
+            return null;
+        });
+    }
+
+    private static Map<String, String> fields(CouponStateChange change) {
+        return Map.of(
+            "outboxId", String.valueOf(change.outboxId()),
+            "couponId", String.valueOf(change.couponId()),
+            "eventId", String.valueOf(change.eventId()),
+            "accountId", String.valueOf(change.accountId()),
+            "type", change.type().name(),
+            "occurredAt", change.occurredAt().toString());
+    }
+}
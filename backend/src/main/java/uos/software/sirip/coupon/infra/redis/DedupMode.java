@@ -0,0 +1,14 @@
+package uos.software.sirip.coupon.infra.redis;
+
+/**
+ * 중복 신청 기록 방식.
+ * SET: accountId 문자열 집합, BITMAP: accountId 를 오프셋으로 하는 비트맵.
+ */
+public enum DedupMode {
+    SET,
+    BITMAP;
+
+    String scriptArg() {
+        return name().toLowerCase();
+    }
+}
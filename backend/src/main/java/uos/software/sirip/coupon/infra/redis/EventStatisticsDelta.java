@@ -0,0 +1,26 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import uos.software.sirip.coupon.domain.CouponChangeType;
+
+/**
+ * 릴레이 배치 하나에서 이벤트별로 모은 상태 변경.
+ * 다시 전달된 변경을 outboxId 로 걸러야 하므로 합치는 일은 Redis 스크립트에서 한다.
+ */
+public class EventStatisticsDelta {
+
+    // (outboxId, 변경 종류, 발생 시각 ms) 세 개씩
+    private final List<String> changes = new ArrayList<>();
+
+    public void add(Long outboxId, CouponChangeType type, Instant occurredAt) {
+        changes.add(String.valueOf(outboxId));
+        changes.add(type.name());
+        changes.add(String.valueOf(occurredAt.toEpochMilli()));
+    }
+
+    List<String> scriptArgs() {
+        return changes;
+    }
+}
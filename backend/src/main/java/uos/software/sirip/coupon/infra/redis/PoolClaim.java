@@ -0,0 +1,17 @@
+package uos.software.sirip.coupon.infra.redis;
+
+/**
+ * 쿠폰 풀 신청 결과. ISSUED 일 때만 couponId 가 있다.
+ */
+public record PoolClaim(ApplyOutcome outcome, Long couponId) {
+
+    static PoolClaim fromScriptResult(Long result) {
+        if (result == null) {
+            throw new IllegalStateException("Redis 풀 신청 스크립트 결과가 비어 있습니다.");
+        }
+        if (result > 0) {
+            return new PoolClaim(ApplyOutcome.ISSUED, result);
+        }
+        return new PoolClaim(ApplyOutcome.fromScriptResult(result), null);
+    }
+}
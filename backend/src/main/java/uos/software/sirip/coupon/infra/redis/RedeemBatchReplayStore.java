@@ -0,0 +1,67 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import uos.software.sirip.coupon.application.BulkRedeemResult;
+
+/**
+ * 스캐너 배치 처리 결과 보관. 같은 배치를 다시 보내면 처음 결과를 그대로 돌려준다.
+ */
+@Slf4j
+@Component
+public class RedeemBatchReplayStore {
+
+    private static final String KEY_PREFIX = "coupon:redeem-batch:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedeemBatchReplayStore(
+        StringRedisTemplate stringRedisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${coupon.redeem-batch.replay-ttl}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    public Optional<BulkRedeemResult> find(Long accountId, String scannerId, String batchId) {
+        try {
+            String cached = stringRedisTemplate.opsForValue()
+                .get(buildKey(accountId, scannerId, batchId));
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, BulkRedeemResult.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 보관 결과를 못 읽어도 DB 상태로 멱등 처리된다 (이미 사용된 쿠폰은 ALREADY_REDEEMED)
+            log.warn("Redeem batch replay lookup failed: {}/{}", scannerId, batchId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 먼저 커밋된 결과만 남긴다.
+     */
+    public void save(Long accountId, BulkRedeemResult result) {
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(
+                buildKey(accountId, result.scannerId(), result.batchId()),
+                objectMapper.writeValueAsString(result), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Redeem batch replay save failed: {}/{}", result.scannerId(), result.batchId(), e);
+        }
+    }
+
+    private String buildKey(Long accountId, String scannerId, String batchId) {
+        return KEY_PREFIX + accountId + ":" + scannerId + ":" + batchId;
+    }
+}
@@ -0,0 +1,530 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트별 쿠폰 재고(remain)와 중복 신청 기록을 Lua 스크립트로 원자 처리한다.
+ * 중복 기록은 coupon.dedup.mode 에 따라 SET 또는 비트맵에 저장한다.
+ * 모드는 이벤트 진행 중에 바꾸지 않는다 (기존 기록을 다른 키에서 찾지 않음).
+ *
+ * stripes > 1 인 이벤트는 재고와 신청 기록을 칸으로 나눠 클러스터 슬롯에 분산한다.
+ * 계정의 신청 기록은 accountId % stripes 칸(자기 칸)에 있어, 자기 칸 재고 차감과 한 스크립트로 묶인다.
+ * 자기 칸이 비었을 때만 '빌리는 중' 기록을 남기고 다른 칸에서 빌린 뒤 확정한다.
+ * 돌아온 재고를 놓치지 않도록 모든 칸을 두 바퀴 돌아도 없을 때만 소진으로 판단한다.
+ * 빌리는 도중 멈춘 신청은 recoverStalePending 이 정리한다 (빌린 재고는 그 칸에 반환).
+ *
+ * 쿠폰 풀 이벤트(단일 재고 키)는 미리 만든 쿠폰 id 를 LIST 에 두고 신청 시 하나씩 꺼낸다.
+ */
+@Component
+public class RedisCouponStock {
+
+    // Redis 비트맵 최대 오프셋 (2^32 - 1)
+    private static final long MAX_BITMAP_OFFSET = 4_294_967_295L;
+
+    private static final RedisScript<Long> APPLY_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/apply.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/release.lua"), Long.class);
+    private static final RedisScript<Long> STRIPE_CLAIM_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/stripe_claim.lua"), Long.class);
+    private static final RedisScript<Long> STRIPE_BORROW_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/stripe_borrow.lua"), Long.class);
+    private static final RedisScript<Long> STRIPE_SETTLE_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/stripe_settle.lua"), Long.class);
+    private static final RedisScript<Long> STRIPE_RETURN_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/stripe_return.lua"), Long.class);
+    private static final RedisScript<Long> CANCEL_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/cancel_handoff.lua"), Long.class);
+    private static final RedisScript<Long> ADJUST_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/stock_adjust.lua"), Long.class);
+    private static final RedisScript<Long> POOL_APPLY_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/pool_apply.lua"), Long.class);
+    private static final RedisScript<Long> POOL_RELEASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/pool_release.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final DedupMode dedupMode;
+
+    public RedisCouponStock(
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${coupon.dedup.mode}") DedupMode dedupMode) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.dedupMode = dedupMode;
+    }
+
+    /**
+     * ✅ 재고 키 생성 (분할 시 칸마다 고르게 나눈다)
+     */
+    public void seed(Long eventId, int stripes, int totalCoupons, Duration ttl) {
+        if (stripes <= 1) {
+            stringRedisTemplate.opsForValue()
+                .set(CouponRedisKeys.remain(eventId), String.valueOf(totalCoupons), ttl);
+            return;
+        }
+        int base = totalCoupons / stripes;
+        int extra = totalCoupons % stripes;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int amount = base + (stripe < extra ? 1 : 0);
+            stringRedisTemplate.opsForValue()
+                .set(CouponRedisKeys.remainStripe(eventId, stripe), String.valueOf(amount), ttl);
+        }
+    }
+
+    /**
+     * ✅ 중복 확인 + 재고 차감
+     */
+    public ApplyOutcome tryApply(Long eventId, int stripes, Long accountId) {
+        if (stripes <= 1) {
+            Long result = stringRedisTemplate.execute(APPLY_SCRIPT,
+                List.of(appliedKey(eventId), CouponRedisKeys.remain(eventId)),
+                member(accountId), dedupMode.scriptArg());
+            return ApplyOutcome.fromScriptResult(result);
+        }
+
+        int home = homeStripe(accountId, stripes);
+        Long claimed = stringRedisTemplate.execute(STRIPE_CLAIM_SCRIPT,
+            List.of(appliedKey(eventId, stripes, accountId), CouponRedisKeys.remainStripe(eventId, home),
+                CouponRedisKeys.pendingStripe(eventId, home)),
+            member(accountId, stripes), dedupMode.scriptArg(), accountId.toString(),
+            String.valueOf(System.currentTimeMillis()));
+        if (claimed == null || claimed != -1L) {
+            return ApplyOutcome.fromScriptResult(claimed);
+        }
+
+        // 자기 칸이 비었다: 이웃 칸부터 빌린다. 지나간 칸에 반환된 재고도 보도록 두 바퀴 돈다
+        for (int i = 1; i <= stripes * 2; i++) {
+            int stripe = (home + i) % stripes;
+            Long result = stringRedisTemplate.execute(STRIPE_BORROW_SCRIPT,
+                List.of(CouponRedisKeys.remainStripe(eventId, stripe),
+                    CouponRedisKeys.borrowedStripe(eventId, stripe)),
+                accountId.toString());
+            if (result != null && result >= 0) {
+                return settle(eventId, stripes, stripe, accountId);
+            }
+        }
+        stringRedisTemplate.opsForZSet()
+            .remove(CouponRedisKeys.pendingStripe(eventId, home), accountId.toString());
+        return ApplyOutcome.SOLD_OUT;
+    }
+
+    /**
+     * ✅ 여러 계정의 중복 확인 + 재고 차감 (요청 순서대로 판정)
+     * 단일 재고 키는 파이프라인 한 번으로, 분할 재고는 계정마다 tryApply 로 처리한다.
+     */
+    public List<ApplyOutcome> tryApplyAll(Long eventId, int stripes, List<Long> accountIds) {
+        if (stripes > 1) {
+            return accountIds.stream()
+                .map(accountId -> tryApply(eventId, stripes, accountId))
+                .toList();
+        }
+        String script = APPLY_SCRIPT.getScriptAsString();
+        String appliedKey = appliedKey(eventId);
+        String remainKey = CouponRedisKeys.remain(eventId);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            accountIds.forEach(accountId -> redis.eval(script, ReturnType.INTEGER, 2,
+                appliedKey, remainKey, member(accountId), dedupMode.scriptArg()));
+            return null;
+        });
+        return results.stream()
+            .map(result -> ApplyOutcome.fromScriptResult((Long) result))
+            .toList();
+    }
+
+    /**
+     * ✅ 빌리는 도중 멈춘 신청 정리 (분할 이벤트만).
+     * olderThan 보다 오래된 빌리는 중 기록을 지우고, 이미 빌려 간 재고가 있으면 그 칸에 돌려준다.
+     * 기록을 먼저 지우므로 늦게 도착한 확정은 실패하고 빌린 재고를 스스로 반환한다.
+     */
+    public int recoverStalePending(Long eventId, int stripes, Duration olderThan) {
+        if (stripes <= 1) {
+            return 0;
+        }
+        long cutoff = System.currentTimeMillis() - olderThan.toMillis();
+        int recovered = 0;
+        for (int home = 0; home < stripes; home++) {
+            String pendingKey = CouponRedisKeys.pendingStripe(eventId, home);
+            Set<String> stale = stringRedisTemplate.opsForZSet().rangeByScore(pendingKey, 0, cutoff);
+            if (stale == null) {
+                continue;
+            }
+            for (String accountId : stale) {
+                Long removed = stringRedisTemplate.opsForZSet().remove(pendingKey, accountId);
+                if (removed == null || removed == 0L) {
+                    // 그 사이에 확정됨
+                    continue;
+                }
+                for (int stripe = 0; stripe < stripes; stripe++) {
+                    if (returnBorrowed(eventId, stripe, accountId)) {
+                        break;
+                    }
+                }
+                recovered++;
+            }
+        }
+        return recovered;
+    }
+
+    /**
+     * ✅ 중복 확인 + 풀에서 쿠폰 id 하나 꺼내기
+     */
+    public PoolClaim takeFromPool(Long eventId, Long accountId) {
+        Long result = stringRedisTemplate.execute(POOL_APPLY_SCRIPT,
+            List.of(appliedKey(eventId), CouponRedisKeys.remain(eventId), CouponRedisKeys.pool(eventId)),
+            member(accountId), dedupMode.scriptArg());
+        return PoolClaim.fromScriptResult(result);
+    }
+
+    /**
+     * ✅ 풀 신청 되돌리기: 신청 기록 제거 + 쿠폰 id 를 풀 앞에 반환 (기록이 있을 때만)
+     */
+    public boolean releaseToPool(Long eventId, Long accountId, Long couponId) {
+        Long result = stringRedisTemplate.execute(POOL_RELEASE_SCRIPT,
+            List.of(appliedKey(eventId), CouponRedisKeys.remain(eventId), CouponRedisKeys.pool(eventId)),
+            member(accountId), dedupMode.scriptArg(), couponId.toString());
+        return result != null && result == 1L;
+    }
+
+    /**
+     * ✅ 미리 만든 쿠폰 id 를 풀 뒤에 추가 (만료 시각은 잔여 수량 키와 같게)
+     */
+    public void pushToPool(Long eventId, List<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        String poolKey = CouponRedisKeys.pool(eventId);
+        stringRedisTemplate.opsForList()
+            .rightPushAll(poolKey, couponIds.stream().map(String::valueOf).toList());
+        Long ttl = stringRedisTemplate.getExpire(CouponRedisKeys.remain(eventId), TimeUnit.MILLISECONDS);
+        if (ttl != null && ttl > 0) {
+            stringRedisTemplate.expire(poolKey, ttl, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * ✅ 풀 앞에서 count 개까지 꺼낸다 (발급량 감소용)
+     */
+    public List<Long> popFromPool(Long eventId, int count) {
+        List<String> popped = stringRedisTemplate.opsForList()
+            .leftPop(CouponRedisKeys.pool(eventId), count);
+        return popped == null ? List.of() : popped.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * ✅ 풀 목록 비우기 (재고 키 복구 시 DB 기준으로 다시 채우기 전)
+     */
+    public void clearPool(Long eventId) {
+        stringRedisTemplate.delete(CouponRedisKeys.pool(eventId));
+    }
+
+    /**
+     * ✅ 신청 기록 제거 + 재고 반환 (기록이 있을 때만)
+     */
+    public boolean release(Long eventId, int stripes, Long accountId) {
+        if (stripes <= 1) {
+            Long result = stringRedisTemplate.execute(RELEASE_SCRIPT,
+                List.of(appliedKey(eventId), CouponRedisKeys.remain(eventId)),
+                member(accountId), dedupMode.scriptArg());
+            return result != null && result == 1L;
+        }
+
+        // 어느 칸에서 차감했는지는 기록하지 않는다. 합계만 맞으면 되므로 신청 기록과 같은 자기 칸에 돌려준다.
+        Long result = stringRedisTemplate.execute(RELEASE_SCRIPT,
+            List.of(appliedKey(eventId, stripes, accountId),
+                CouponRedisKeys.remainStripe(eventId, homeStripe(accountId, stripes))),
+            member(accountId, stripes), dedupMode.scriptArg());
+        return result != null && result == 1L;
+    }
+
+    /**
+     * ✅ 취소: 신청 기록 제거 + 재고 반환. 대기자가 있으면 재고 대신 대기자에게 바로 넘긴다.
+     */
+    public void cancel(Long eventId, int stripes, Long accountId, Long waiterAccountId) {
+        if (stripes <= 1 || waiterAccountId == null
+            || homeStripe(waiterAccountId, stripes) == homeStripe(accountId, stripes)) {
+            String remainKey = stripes <= 1
+                ? CouponRedisKeys.remain(eventId)
+                : CouponRedisKeys.remainStripe(eventId, homeStripe(accountId, stripes));
+            stringRedisTemplate.execute(CANCEL_SCRIPT,
+                List.of(appliedKey(eventId, stripes, accountId), remainKey),
+                member(accountId, stripes), dedupMode.scriptArg(),
+                waiterAccountId == null ? "" : member(waiterAccountId, stripes));
+            return;
+        }
+
+        // 대기자 기록이 다른 칸(슬롯)이면 대기자를 먼저 기록한 뒤 취소자를 지운다.
+        // 중간에 멈추면 취소자 기록만 남아 재신청이 막힐 뿐 재고는 늘지 않는다.
+        recordApplicants(eventId, stripes, List.of(waiterAccountId));
+        unclaim(eventId, stripes, accountId);
+    }
+
+    /**
+     * ✅ 발급량 변경: 잔여 수량을 delta 만큼 조정하고 실제 적용한 값을 돌려준다.
+     * 감소는 남은 재고만큼만 적용된다 (이미 발급된 쿠폰은 회수하지 않음). 재고 키가 없으면 null
+     */
+    public Long adjust(Long eventId, int stripes, long delta) {
+        if (stripes <= 1) {
+            return stringRedisTemplate.execute(ADJUST_SCRIPT,
+                List.of(CouponRedisKeys.remain(eventId)), String.valueOf(delta));
+        }
+
+        List<String> keys = remainKeys(eventId, stripes);
+        long applied = 0;
+        boolean initialized = false;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            // 증가는 칸마다 고르게, 감소는 남은 양을 앞 칸부터 차례로
+            long share = delta >= 0
+                ? delta / stripes + (stripe < delta % stripes ? 1 : 0)
+                : delta - applied;
+            if (share == 0) {
+                continue;
+            }
+            Long result = stringRedisTemplate.execute(ADJUST_SCRIPT,
+                List.of(keys.get(stripe)), String.valueOf(share));
+            if (result != null) {
+                initialized = true;
+                applied += result;
+            }
+        }
+        return initialized ? applied : null;
+    }
+
+    /**
+     * ✅ 대기열에서 승급된 계정을 중복 신청 기록에 추가
+     */
+    public void recordApplicants(Long eventId, int stripes, Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            accountIds.forEach(accountId -> {
+                String key = appliedKey(eventId, stripes, accountId);
+                if (dedupMode == DedupMode.BITMAP) {
+                    redis.setBit(key, offset(accountId) / Math.max(stripes, 1), true);
+                } else {
+                    redis.sAdd(key, accountId.toString());
+                }
+            });
+            return null;
+        });
+    }
+
+    /**
+     * ✅ 잔여 수량 합계 (재고 키가 하나도 없으면 null)
+     */
+    public Long remaining(Long eventId, int stripes) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(remainKeys(eventId, stripes));
+        if (values == null || values.stream().allMatch(value -> value == null)) {
+            return null;
+        }
+        return values.stream()
+            .filter(value -> value != null)
+            .mapToLong(Long::parseLong)
+            .sum();
+    }
+
+    public boolean hasApplied(Long eventId, int stripes, Long accountId) {
+        String key = appliedKey(eventId, stripes, accountId);
+        if (dedupMode == DedupMode.BITMAP) {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .getBit(key, offset(accountId) / Math.max(stripes, 1)));
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(key, accountId.toString()));
+    }
+
+    /**
+     * ✅ 신청 기록 전체를 batchSize 단위로 전달 (분할 이벤트는 칸 순서대로)
+     */
+    public void scanApplicants(Long eventId, int stripes, int batchSize,
+        Consumer<List<Long>> batchConsumer) {
+        int shards = Math.max(stripes, 1);
+        List<Long> batch = new ArrayList<>(batchSize);
+        for (int shard = 0; shard < shards; shard++) {
+            String key = appliedShardKey(eventId, stripes, shard);
+            if (dedupMode == DedupMode.BITMAP) {
+                byte[] bitmap = readBitmap(key);
+                for (int byteIndex = 0; byteIndex < bitmap.length; byteIndex++) {
+                    int bits = bitmap[byteIndex] & 0xFF;
+                    // Redis 비트맵은 각 바이트의 최상위 비트가 가장 작은 오프셋
+                    for (int bit = 0; bits != 0 && bit < 8; bit++) {
+                        if ((bits & (0x80 >>> bit)) != 0) {
+                            batch.add(((long) byteIndex * 8 + bit) * shards + shard);
+                            drainIfFull(batch, batchSize, batchConsumer);
+                        }
+                    }
+                }
+            } else {
+                ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+                try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(key, options)) {
+                    while (cursor.hasNext()) {
+                        batch.add(Long.valueOf(cursor.next()));
+                        drainIfFull(batch, batchSize, batchConsumer);
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+
+    /**
+     * ✅ 이벤트에 속한 쿠폰 키 삭제 (워밍업용 그림자 키 정리)
+     */
+    public void delete(Long eventId, int stripes) {
+        stringRedisTemplate.delete(keys(eventId, stripes));
+    }
+
+    /**
+     * ✅ 이벤트에 속한 쿠폰 키 목록 (TTL · 만료 처리용)
+     */
+    public List<String> keys(Long eventId, int stripes) {
+        List<String> keys = new ArrayList<>(remainKeys(eventId, stripes));
+        keys.add(CouponRedisKeys.pool(eventId));
+        for (int shard = 0; shard < Math.max(stripes, 1); shard++) {
+            keys.add(appliedShardKey(eventId, stripes, shard));
+            if (stripes > 1) {
+                keys.add(CouponRedisKeys.pendingStripe(eventId, shard));
+                keys.add(CouponRedisKeys.borrowedStripe(eventId, shard));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * ✅ 신청 기록 키 메모리 사용량 합계 (키가 하나도 없으면 null)
+     */
+    public Long memoryUsage(Long eventId, int stripes) {
+        Long total = null;
+        for (int shard = 0; shard < Math.max(stripes, 1); shard++) {
+            byte[] key = appliedShardKey(eventId, stripes, shard).getBytes(StandardCharsets.UTF_8);
+            Long usage = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                (Long) connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key));
+            if (usage != null) {
+                total = (total == null ? 0 : total) + usage;
+            }
+        }
+        return total;
+    }
+
+    private List<String> remainKeys(Long eventId, int stripes) {
+        if (stripes <= 1) {
+            return List.of(CouponRedisKeys.remain(eventId));
+        }
+        return IntStream.range(0, stripes)
+            .mapToObj(stripe -> CouponRedisKeys.remainStripe(eventId, stripe))
+            .toList();
+    }
+
+    private ApplyOutcome settle(Long eventId, int stripes, int borrowedFrom, Long accountId) {
+        int home = homeStripe(accountId, stripes);
+        Long settled = stringRedisTemplate.execute(STRIPE_SETTLE_SCRIPT,
+            List.of(appliedKey(eventId, stripes, accountId), CouponRedisKeys.pendingStripe(eventId, home)),
+            member(accountId, stripes), dedupMode.scriptArg(), accountId.toString());
+        if (settled != null && settled == 1L) {
+            stringRedisTemplate.opsForSet()
+                .remove(CouponRedisKeys.borrowedStripe(eventId, borrowedFrom), accountId.toString());
+            return ApplyOutcome.ISSUED;
+        }
+        // 복구 작업이 빌리는 중 기록을 먼저 정리했다: 빌린 재고를 돌려주고 소진으로 응답
+        returnBorrowed(eventId, borrowedFrom, accountId.toString());
+        return ApplyOutcome.SOLD_OUT;
+    }
+
+    private boolean returnBorrowed(Long eventId, int stripe, String accountId) {
+        Long returned = stringRedisTemplate.execute(STRIPE_RETURN_SCRIPT,
+            List.of(CouponRedisKeys.remainStripe(eventId, stripe),
+                CouponRedisKeys.borrowedStripe(eventId, stripe)),
+            accountId);
+        return returned != null && returned == 1L;
+    }
+
+    private boolean unclaim(Long eventId, int stripes, Long accountId) {
+        String key = appliedKey(eventId, stripes, accountId);
+        if (dedupMode == DedupMode.BITMAP) {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setBit(key, offset(accountId) / Math.max(stripes, 1), false));
+        }
+        Long removed = stringRedisTemplate.opsForSet().remove(key, accountId.toString());
+        return removed != null && removed == 1L;
+    }
+
+    private static int homeStripe(Long accountId, int stripes) {
+        return (int) Math.floorMod(accountId, (long) stripes);
+    }
+
+    private String appliedKey(Long eventId) {
+        return appliedShardKey(eventId, 1, 0);
+    }
+
+    /**
+     * 계정의 신청 기록 키 (분할 이벤트는 자기 칸 조각)
+     */
+    private String appliedKey(Long eventId, int stripes, Long accountId) {
+        return appliedShardKey(eventId, stripes, stripes <= 1 ? 0 : homeStripe(accountId, stripes));
+    }
+
+    private String appliedShardKey(Long eventId, int stripes, int shard) {
+        if (stripes <= 1) {
+            return dedupMode == DedupMode.BITMAP
+                ? CouponRedisKeys.appliedBitmap(eventId)
+                : CouponRedisKeys.applied(eventId);
+        }
+        return dedupMode == DedupMode.BITMAP
+            ? CouponRedisKeys.appliedBitmapStripe(eventId, shard)
+            : CouponRedisKeys.appliedStripe(eventId, shard);
+    }
+
+    private String member(Long accountId) {
+        return member(accountId, 1);
+    }
+
+    /**
+     * 신청 기록 멤버. 분할 비트맵은 칸마다 accountId / stripes 를 오프셋으로 써서 조밀하게 유지한다
+     */
+    private String member(Long accountId, int stripes) {
+        return dedupMode == DedupMode.BITMAP
+            ? String.valueOf(offset(accountId) / Math.max(stripes, 1))
+            : accountId.toString();
+    }
+
+    private long offset(Long accountId) {
+        if (accountId < 0 || accountId > MAX_BITMAP_OFFSET) {
+            throw new IllegalArgumentException("accountId out of bitmap range: " + accountId);
+        }
+        return accountId;
+    }
+
+    private byte[] readBitmap(String key) {
+        byte[] raw = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+            connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+        return raw == null ? new byte[0] : raw;
+    }
+
+    private static void drainIfFull(List<Long> batch, int batchSize,
+        Consumer<List<Long>> batchConsumer) {
+        if (batch.size() >= batchSize) {
+            batchConsumer.accept(new ArrayList<>(batch));
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트별 쿠폰 통계. 노드마다 배치 단위로 메모리에서 합친 증가분을 Redis 해시에 누적하고,
+ * 조회는 이벤트당 HGETALL + HMGET 한 번씩이라 쿠폰 수와 무관하다.
+ */
+@Component
+public class RedisEventStatistics {
+
+    private static final RedisScript<Long> RECORD_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/stats_record.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisEventStatistics(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 여러 이벤트의 상태 변경을 파이프라인 한 번으로 반영 (이미 반영한 outboxId 는 건너뜀)
+     */
+    public void record(Map<Long, EventStatisticsDelta> deltas, Duration rateRetention,
+        Duration dedupRetention) {
+        String script = RECORD_SCRIPT.getScriptAsString();
+        String rateSeconds = String.valueOf(rateRetention.toSeconds());
+        String dedupSeconds = String.valueOf(dedupRetention.toSeconds());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            deltas.forEach((eventId, delta) -> {
+                List<String> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(countersKey(eventId));
+                keysAndArgs.add(issueRateKey(eventId));
+                keysAndArgs.add(relayedKey(eventId));
+                keysAndArgs.add(rateSeconds);
+                keysAndArgs.add(dedupSeconds);
+                keysAndArgs.addAll(delta.scriptArgs());
+                redis.eval(script, ReturnType.INTEGER, 3, keysAndArgs.toArray(String[]::new));
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 누적 카운터 (issued, promoted, redeemed, no_show, cancelled, first_issued_at, last_issued_at)
+     */
+    public Map<String, String> counters(Long eventId) {
+        return stringRedisTemplate.<String, String>opsForHash().entries(countersKey(eventId));
+    }
+
+    /**
+     * 지정한 분(epoch minute)들의 발급 수. 기록이 없는 분은 0
+     */
+    public List<Long> issuedPerMinute(Long eventId, List<Long> minutes) {
+        List<String> values = stringRedisTemplate.<String, String>opsForHash()
+            .multiGet(issueRateKey(eventId), minutes.stream().map(String::valueOf).toList());
+        return values.stream().map(value -> value == null ? 0L : Long.parseLong(value)).toList();
+    }
+
+    // 한 스크립트가 함께 쓰는 키라 {eventId} 해시 태그로 같은 슬롯에 둔다
+    private static String countersKey(Long eventId) {
+        return "event:{" + eventId + "}:stats";
+    }
+
+    private static String issueRateKey(Long eventId) {
+        return "event:{" + eventId + "}:stats:issued-per-minute";
+    }
+
+    private static String relayedKey(Long eventId) {
+        return "event:{" + eventId + "}:stats:relayed";
+    }
+}
@@ -0,0 +1,57 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 적용 중인 패널티. 키는 종료 시각에 만료되므로 별도 정리 작업이 없다.
+ */
+@Component
+public class RedisPenaltyStore {
+
+    private static final String KEY_PREFIX = "penalty:";
+
+    private static final RedisScript<Long> EXTEND_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/penalty_extend.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisPenaltyStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public boolean isActive(Long accountId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key(accountId)));
+    }
+
+    public void extend(Long accountId, Instant endsAt) {
+        stringRedisTemplate.execute(EXTEND_SCRIPT, List.of(key(accountId)),
+            String.valueOf(endsAt.toEpochMilli()));
+    }
+
+    /**
+     * 여러 계정을 파이프라인 한 번으로 기록
+     */
+    public void extendAll(Map<Long, Instant> endsAtByAccount) {
+        String script = EXTEND_SCRIPT.getScriptAsString();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            endsAtByAccount.forEach((accountId, endsAt) -> redis.eval(script,
+                ReturnType.INTEGER, 1,
+                key(accountId), String.valueOf(endsAt.toEpochMilli())));
+            return null;
+        });
+    }
+
+    private static String key(Long accountId) {
+        return KEY_PREFIX + accountId;
+    }
+}
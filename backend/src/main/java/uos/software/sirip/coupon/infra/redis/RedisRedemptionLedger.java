@@ -0,0 +1,150 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 사용 여부 비트맵과 DB 반영 대기열.
+ * 토큰 사용 · 단건 사용 · 일괄 사용 · 노쇼가 모두 같은 비트를 선점하므로 이중 사용이 막힌다.
+ */
+@Slf4j
+@Component
+public class RedisRedemptionLedger {
+
+    private static final long MAX_BITMAP_OFFSET = 4_294_967_295L;
+
+    private static final RedisScript<Long> REDEEM_TOKEN_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/redeem_token.lua"), Long.class);
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisRedemptionLedger(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * ✅ 태그 없는 이전 키가 남아 있으면 새 키로 옮긴다 (반영 전 사용 기록 · 대기열 유실 방지).
+     * 이전 키는 클러스터에서 쓸 수 없었으므로 단일 Redis 에만 남아 있고, 그곳에서는 RENAMENX 가 된다.
+     */
+    @PostConstruct
+    void migrateLegacyKeys() {
+        migrate(CouponRedisKeys.legacyRedeemed(), CouponRedisKeys.redeemed());
+        migrate(CouponRedisKeys.legacyRedeemQueue(), CouponRedisKeys.redeemQueue());
+    }
+
+    private void migrate(String legacyKey, String key) {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(legacyKey))
+                && Boolean.TRUE.equals(stringRedisTemplate.renameIfAbsent(legacyKey, key))) {
+                log.info("Moved redemption key {} to {}", legacyKey, key);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not move redemption key {} to {}", legacyKey, key, e);
+        }
+    }
+
+    /**
+     * ✅ 토큰 사용: 비트 선점 + 대기열 적재 (원자적). 이미 선점된 쿠폰이면 false
+     */
+    public boolean redeemAndEnqueue(Long couponId, Instant redeemedAt) {
+        Long result = stringRedisTemplate.execute(REDEEM_TOKEN_SCRIPT,
+            List.of(CouponRedisKeys.redeemed(), CouponRedisKeys.redeemQueue()),
+            String.valueOf(offset(couponId)), couponId + ":" + redeemedAt.toEpochMilli());
+        return result != null && result == 1L;
+    }
+
+    /**
+     * ✅ DB 경로 사용 전 비트 선점. 이미 선점되어 있던 couponId 를 돌려준다.
+     */
+    public Set<Long> claim(Collection<Long> couponIds) {
+        List<Long> ids = new ArrayList<>(couponIds);
+        List<Object> previous = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            ids.forEach(id -> redis.setBit(CouponRedisKeys.redeemed(), offset(id), true));
+            return null;
+        });
+
+        Set<Long> alreadyClaimed = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (Boolean.TRUE.equals(previous.get(i))) {
+                alreadyClaimed.add(ids.get(i));
+            }
+        }
+        return alreadyClaimed;
+    }
+
+    public void unclaim(Collection<Long> couponIds) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            couponIds.forEach(id -> redis.setBit(CouponRedisKeys.redeemed(), offset(id), false));
+            return null;
+        });
+    }
+
+    /**
+     * ✅ 대기열 앞부분 조회 (반영 후 acknowledge 로 제거)
+     */
+    public List<QueuedRedemption> peek(int count, ZoneId zone) {
+        List<String> entries = stringRedisTemplate.opsForList()
+            .range(CouponRedisKeys.redeemQueue(), 0, count - 1);
+        if (entries == null) {
+            return List.of();
+        }
+        return entries.stream()
+            .map(entry -> {
+                int separator = entry.indexOf(':');
+                return new QueuedRedemption(
+                    Long.valueOf(entry.substring(0, separator)),
+                    LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(Long.parseLong(entry.substring(separator + 1))), zone));
+            })
+            .toList();
+    }
+
+    public void acknowledge(int count) {
+        stringRedisTemplate.opsForList().trim(CouponRedisKeys.redeemQueue(), count, -1);
+    }
+
+    /**
+     * 여러 노드 중 한 곳만 대기열을 비우도록 잠금. 성공 시 해제용 토큰 반환
+     */
+    public String tryLockFlush(Duration leaseTime) {
+        String owner = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue()
+            .setIfAbsent(CouponRedisKeys.redeemFlushLock(), owner, leaseTime);
+        return Boolean.TRUE.equals(locked) ? owner : null;
+    }
+
+    public void unlockFlush(String owner) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(CouponRedisKeys.redeemFlushLock()), owner);
+    }
+
+    private static long offset(Long couponId) {
+        if (couponId < 0 || couponId > MAX_BITMAP_OFFSET) {
+            throw new IllegalArgumentException("couponId out of bitmap range: " + couponId);
+        }
+        return couponId;
+    }
+
+    public record QueuedRedemption(Long couponId, LocalDateTime redeemedAt) {
+    }
+}
@@ -0,0 +1,87 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 오픈 대기실. 번호표 발급과 입장 허용 모두 Lua 한 번이며 DB 를 보지 않는다.
+ * 키는 해시 태그로 이벤트별 같은 슬롯에 둔다.
+ */
+@Component
+public class RedisWaitingRoom {
+
+    private static final RedisScript<Long> JOIN_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/waiting_room_join.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/waiting_room_admit.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisWaitingRoom(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * ✅ 오픈 시각 설정 (이벤트 생성 · 일정 변경 시). 대기실 키는 expireAt 에 만료
+     */
+    public void open(Long eventId, Instant opensAt, Instant expireAt) {
+        stringRedisTemplate.opsForHash().put(stateKey(eventId), "opens_at",
+            String.valueOf(opensAt.toEpochMilli()));
+        stringRedisTemplate.expireAt(stateKey(eventId), expireAt);
+    }
+
+    /**
+     * ✅ 번호표 발급 (계정당 하나)
+     */
+    public long join(Long eventId, Long accountId, Duration fallbackTtl) {
+        Long ticket = stringRedisTemplate.execute(JOIN_SCRIPT,
+            List.of(ticketsKey(eventId), sequenceKey(eventId), stateKey(eventId)),
+            String.valueOf(accountId), String.valueOf(fallbackTtl.toMillis()));
+        if (ticket == null) {
+            throw new IllegalStateException("대기실 번호표 발급 실패. eventId=" + eventId);
+        }
+        return ticket;
+    }
+
+    /**
+     * ✅ 경과 시간만큼 입장 허용 번호를 올리고 계정 번호표와 함께 조회
+     */
+    public Admission admit(Long eventId, Long accountId, double ratePerSecond) {
+        List<?> result = stringRedisTemplate.execute(ADMIT_SCRIPT,
+            List.of(stateKey(eventId), sequenceKey(eventId), ticketsKey(eventId)),
+            String.valueOf(ratePerSecond), String.valueOf(accountId));
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("대기실 상태 조회 실패. eventId=" + eventId);
+        }
+        long ticket = ((Number) result.get(0)).longValue();
+        return new Admission(
+            ticket < 0 ? null : ticket,
+            ((Number) result.get(1)).longValue(),
+            ((Number) result.get(2)).longValue());
+    }
+
+    private static String stateKey(Long eventId) {
+        return "waiting-room:{" + eventId + "}:state";
+    }
+
+    private static String sequenceKey(Long eventId) {
+        return "waiting-room:{" + eventId + "}:seq";
+    }
+
+    private static String ticketsKey(Long eventId) {
+        return "waiting-room:{" + eventId + "}:tickets";
+    }
+
+    /**
+     * ticket: 계정 번호표 (없으면 null), admittedThrough: 입장 허용된 마지막 번호,
+     * opensInMillis: 오픈 전이면 남은 시간
+     */
+    public record Admission(Long ticket, long admittedThrough, long opensInMillis) {
+    }
+}
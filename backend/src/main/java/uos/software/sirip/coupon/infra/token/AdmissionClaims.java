@@ -0,0 +1,10 @@
+package uos.software.sirip.coupon.infra.token;
+
+import java.time.Instant;
+
+public record AdmissionClaims(
+    Long eventId,
+    Long accountId,
+    Instant expiresAt
+) {
+}
@@ -0,0 +1,11 @@
+package uos.software.sirip.coupon.infra.token;
+
+import java.time.Instant;
+
+public record CouponTokenClaims(
+    Long couponId,
+    Long eventId,
+    Long accountId,
+    Instant issuedAt
+) {
+}
@@ -0,0 +1,86 @@
+package uos.software.sirip.coupon.infra.token;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발급 쿠폰의 자체 검증 토큰.
+ * couponId · eventId · accountId · issuedAt(초) 32바이트 + HMAC-SHA256 앞 16바이트를 base64url 로 인코딩한다.
+ */
+@Component
+public class CouponTokenCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_LENGTH = Long.BYTES * 4;
+    private static final int MAC_LENGTH = 16;
+
+    private final ThreadLocal<Mac> macs;
+
+    public CouponTokenCodec(@Value("${coupon.token.secret}") String secret) {
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC 초기화 실패", e);
+            }
+        });
+    }
+
+    public String encode(CouponTokenClaims claims) {
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+            .putLong(claims.couponId())
+            .putLong(claims.eventId())
+            .putLong(claims.accountId())
+            .putLong(claims.issuedAt().getEpochSecond())
+            .array();
+        byte[] token = Arrays.copyOf(payload, PAYLOAD_LENGTH + MAC_LENGTH);
+        System.arraycopy(sign(payload), 0, token, PAYLOAD_LENGTH, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * 서명이 맞지 않거나 형식이 틀리면 empty.
+     */
+    public Optional<CouponTokenClaims> decode(String token) {
+        byte[] raw;
+        try {
+            raw = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (raw.length != PAYLOAD_LENGTH + MAC_LENGTH) {
+            return Optional.empty();
+        }
+
+        byte[] payload = Arrays.copyOf(raw, PAYLOAD_LENGTH);
+        byte[] expected = Arrays.copyOf(sign(payload), MAC_LENGTH);
+        byte[] actual = Arrays.copyOfRange(raw, PAYLOAD_LENGTH, raw.length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        return Optional.of(new CouponTokenClaims(
+            buffer.getLong(),
+            buffer.getLong(),
+            buffer.getLong(),
+            Instant.ofEpochSecond(buffer.getLong())));
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+}
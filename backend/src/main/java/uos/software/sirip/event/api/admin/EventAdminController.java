@@ -1,15 +1,33 @@
 package uos.software.sirip.event.api.admin;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import uos.software.sirip.config.security.CurrentUser;
 import uos.software.sirip.event.api.request.*;
 import uos.software.sirip.event.api.response.EventResponse;
+import uos.software.sirip.event.api.response.EventStatisticsResponse;
+import uos.software.sirip.event.api.response.RewardOptimizeResultResponse;
+import uos.software.sirip.event.api.response.RewardSweepPointResponse;
 import uos.software.sirip.event.application.EventCommandService;
+import uos.software.sirip.event.application.EventLogExportService;
 import uos.software.sirip.event.application.EventRewardService;
+import uos.software.sirip.event.application.EventStatisticsService;
 import uos.software.sirip.event.application.EventSummary;
+import uos.software.sirip.event.application.RewardSweepService;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +36,9 @@ public class EventAdminController {
 
     private final EventCommandService eventCommandService;
     private final EventRewardService eventRewardService;
+    private final RewardSweepService rewardSweepService;
+    private final EventStatisticsService eventStatisticsService;
+    private final EventLogExportService eventLogExportService;
 
     /**
      * ✅ 관리자(현재 로그인 사용자) 기반 이벤트 생성
@@ -39,7 +60,8 @@ public class EventAdminController {
                 request.getOrganizerType(),
                 request.getTargetMajor(),
                 request.getTargetGrade(),
-                request.getBrandScore()
+                request.getBrandScore(),
+                request.getStockStripes()
         );
         return EventResponse.from(summary);
     }
@@ -56,14 +78,17 @@ public class EventAdminController {
         return EventResponse.from(summary);
     }
 
-//    /** ✅ 발급량 수정 */
-//    @PatchMapping("/{eventId}/capacity")
-//    public EventResponse updateCapacity(@CurrentUser Long accountId,
-//                                        @PathVariable Long eventId,
-//                                        @RequestBody @Valid UpdateEventCapacityRequest request) {
-//        EventSummary summary = eventCommandService.updateCapacity(accountId, eventId, request.getTotalCoupons());
-//        return EventResponse.from(summary);
-//    }
+    /**
+     * ✅ 발급량 수정
+     */
+    @PatchMapping("/{eventId}/capacity")
+    public EventResponse updateCapacity(@CurrentUser Long accountId,
+        @PathVariable Long eventId,
+        @RequestBody @Valid UpdateEventCapacityRequest request) {
+        EventSummary summary = eventCommandService.updateCapacity(accountId, eventId,
+            request.getTotalCoupons());
+        return EventResponse.from(summary);
+    }
 
     /**
      * ✅ 일정 수정
@@ -87,6 +112,30 @@ public class EventAdminController {
         return EventResponse.from(summary);
     }
 
+    /**
+     * ✅ 이벤트 실시간 통계 (발급 속도, 매진 시간, 사용률, 노쇼율)
+     */
+    @GetMapping("/{eventId}/statistics")
+    public EventStatisticsResponse statistics(@CurrentUser Long accountId,
+        @PathVariable Long eventId) {
+        return EventStatisticsResponse.from(eventStatisticsService.get(accountId, eventId));
+    }
+
+    /**
+     * ✅ 본인 소유의 종료된 이벤트 로그를 보상 모델 학습용 CSV 로 내보내기 (응답으로 바로 스트리밍)
+     */
+    @GetMapping("/logs/export")
+    public void exportLogs(@CurrentUser Long accountId, HttpServletResponse response)
+        throws IOException {
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"event_logs.csv\"");
+
+        Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+        writer.write('\uFEFF'); // 학습 데이터 파일과 같이 BOM 포함 (엑셀 호환)
+        eventLogExportService.export(accountId, writer);
+    }
+
     @PatchMapping("/{eventId}/reward/auto")
     public EventResponse autoOptimizeReward(
             @PathVariable Long eventId,
@@ -95,4 +144,38 @@ public class EventAdminController {
         EventSummary updated = eventRewardService.optimizeAndApplyReward(eventId, targetParticipants);
         return EventResponse.from(updated);
     }
+
+    /**
+     * ✅ 여러 이벤트 보상 일괄 자동 최적화
+     */
+    @PatchMapping("/reward/auto")
+    public List<RewardOptimizeResultResponse> autoOptimizeRewards(
+            @RequestBody @Valid BulkOptimizeRewardRequest request
+    ) {
+        Map<Long, Integer> targets = request.getItems().stream()
+                .collect(Collectors.toMap(
+                        BulkOptimizeRewardRequest.Item::getEventId,
+                        BulkOptimizeRewardRequest.Item::getTargetParticipants,
+                        (first, second) -> second,
+                        LinkedHashMap::new));
+
+        return eventRewardService.optimizeAndApplyRewards(targets)
+                .stream()
+                .map(RewardOptimizeResultResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * ✅ 리워드 금액별 예상 참여자 수 곡선 (SSE 로 계산되는 대로 전송)
+     */
+    @GetMapping(value = "/{eventId}/reward/sweep", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<RewardSweepPointResponse> sweepReward(
+            @PathVariable Long eventId,
+            @RequestParam double from,
+            @RequestParam double to,
+            @RequestParam double step
+    ) {
+        return rewardSweepService.sweep(eventId, from, to, step)
+                .map(RewardSweepPointResponse::from);
+    }
 }
@@ -0,0 +1,26 @@
+package uos.software.sirip.event.api.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class BulkOptimizeRewardRequest {
+
+    @NotEmpty
+    @Valid
+    private List<Item> items;
+
+    @Getter
+    public static class Item {
+
+        @NotNull
+        private Long eventId;
+
+        @Positive
+        private int targetParticipants;
+    }
+}
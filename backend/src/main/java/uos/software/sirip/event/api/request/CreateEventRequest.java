@@ -20,4 +20,7 @@ public class CreateEventRequest {
     private String targetGrade;
     private Double brandScore;
 
+    // 초인기 이벤트용 Redis 재고 분할 수 (미입력 시 단일 키)
+    private Integer stockStripes;
+
 }
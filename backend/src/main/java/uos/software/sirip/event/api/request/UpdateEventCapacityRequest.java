@@ -1,7 +1,10 @@
 package uos.software.sirip.event.api.request;
 
+import jakarta.validation.constraints.PositiveOrZero;
+
 public class UpdateEventCapacityRequest {
 
+    @PositiveOrZero
     private int totalCoupons;
 
     public int getTotalCoupons() {
@@ -0,0 +1,40 @@
+package uos.software.sirip.event.api.response;
+
+import java.time.LocalDateTime;
+import uos.software.sirip.event.application.EventStatistics;
+
+public record EventStatisticsResponse(
+    Long eventId,
+    int totalCoupons,
+    int remainingCoupons,
+    long issued,
+    long promoted,
+    long redeemed,
+    long noShow,
+    long cancelled,
+    long issuedLastMinute,
+    double issueRatePerMinute,
+    LocalDateTime firstIssuedAt,
+    Long secondsToSoldOut,
+    Double redemptionRate,
+    Double noShowRate
+) {
+    public static EventStatisticsResponse from(EventStatistics statistics) {
+        return new EventStatisticsResponse(
+            statistics.eventId(),
+            statistics.totalCoupons(),
+            statistics.remainingCoupons(),
+            statistics.issued(),
+            statistics.promoted(),
+            statistics.redeemed(),
+            statistics.noShow(),
+            statistics.cancelled(),
+            statistics.issuedLastMinute(),
+            statistics.issueRatePerMinute(),
+            statistics.firstIssuedAt(),
+            statistics.secondsToSoldOut(),
+            statistics.redemptionRate(),
+            statistics.noShowRate()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package uos.software.sirip.event.api.response;
+
+import uos.software.sirip.event.application.RewardOptimizeResult;
+
+public record RewardOptimizeResultResponse(
+    Long eventId,
+    boolean applied,
+    Double recommendedReward,
+    String failureReason
+) {
+    public static RewardOptimizeResultResponse from(RewardOptimizeResult result) {
+        return new RewardOptimizeResultResponse(
+            result.eventId(),
+            result.applied(),
+            result.recommendedReward(),
+            result.failureReason()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package uos.software.sirip.event.api.response;
+
+import uos.software.sirip.event.application.RewardSweepPoint;
+
+public record RewardSweepPointResponse(
+    double reward,
+    double predictedParticipants
+) {
+    public static RewardSweepPointResponse from(RewardSweepPoint point) {
+        return new RewardSweepPointResponse(point.reward(), point.predictedParticipants());
+    }
+}
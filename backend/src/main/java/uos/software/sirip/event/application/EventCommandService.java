@@ -1,14 +1,20 @@
 package uos.software.sirip.event.application;
 
 import java.time.Clock;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import uos.software.sirip.coupon.application.CouponApplicationService;
+import uos.software.sirip.coupon.application.CouponPool;
+import uos.software.sirip.coupon.application.CouponStockLifecycleService;
+import uos.software.sirip.coupon.application.WaitingRoomService;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+import uos.software.sirip.event.exception.CapacityDecreaseExceededException;
 import uos.software.sirip.event.exception.EventNotFoundException;
+import uos.software.sirip.event.exception.InvalidStockStripesException;
 import uos.software.sirip.event.infra.jpa.Event;
 import uos.software.sirip.event.infra.jpa.EventJpaRepository;
 import uos.software.sirip.user.domain.Account;
@@ -19,11 +25,17 @@ import uos.software.sirip.user.domain.AuthService;
 @Transactional
 public class EventCommandService {
 
+    private static final int MAX_STOCK_STRIPES = 64;
+
     private final EventJpaRepository eventJpaRepository;
     private final CouponApplicationService couponApplicationService;
     private final Clock clock;
     private final AuthService authService;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final CouponStockLifecycleService couponStockLifecycleService;
+    private final EventLifecycleScheduler eventLifecycleScheduler;
+    private final RedisCouponStock redisCouponStock;
+    private final WaitingRoomService waitingRoomService;
+    private final CouponPool couponPool;
 
     /**
      * ✅ 이벤트 생성
@@ -40,9 +52,12 @@ public class EventCommandService {
         String organizerType,
         String targetMajor,
         String targetGrade,
-        Double brandScore
+        Double brandScore,
+        Integer stockStripes
     ) {
         Account account = authService.getAccount(accountId);
+        // 쿠폰 풀은 LIST 하나에서 꺼내므로 재고도 단일 키
+        int stripes = couponPool.isEnabled() ? 1 : resolveStockStripes(stockStripes, totalCoupons);
 
         Event event = new Event(
             title,
@@ -57,23 +72,54 @@ public class EventCommandService {
             organizerType,
             targetMajor,
             targetGrade,
-            brandScore
+            brandScore,
+            stripes
         );
+        if (couponPool.isEnabled()) {
+            event.markPreMinted();
+        }
         Event saved = eventJpaRepository.save(event);
 
-        initializeCouponStock(saved.getId(), saved.getTotalCoupons());
+        initializeCouponStock(saved.getId(), saved.getTotalCoupons(), saved.stripeCount(),
+            saved.getEndAt());
+        if (saved.isPreMinted()) {
+            // 오픈 때 몰리는 INSERT 를 생성 시점으로 (풀 id 는 커밋 후 Redis 에)
+            couponPool.mint(saved.getId(), saved.getTotalCoupons());
+        }
+        openWaitingRoom(saved);
+        eventLifecycleScheduler.schedule(saved);
         return toSummary(event);
     }
 
 
-    public void initializeCouponStock(Long eventId, int totalCoupons) {
-        String remainKey = "coupon:" + eventId + ":remain";
-        stringRedisTemplate.opsForValue()
-            .set(remainKey, String.valueOf(totalCoupons));
+    public void initializeCouponStock(Long eventId, int totalCoupons, int stripes,
+        LocalDateTime endAt) {
+        // 잔여 수량 키는 종료 + 보관 기간 후 자동 만료
+        // 신청 집합은 첫 신청 때 생기므로 종료 시점에 보관 후 TTL 을 건다 (EventLifecycleScheduler)
+        couponStockLifecycleService.initialize(eventId, totalCoupons, stripes, endAt);
+    }
 
-        String appliedKey = "coupon:" + eventId + ":applied";
-        // 필요 시 TTL 설정 (이벤트 종료 후 자동 삭제)
-        stringRedisTemplate.expire(appliedKey, Duration.ofDays(1));
+    /**
+     * 대기실은 시작 시각부터 입장을 허용하고 종료 시각에 사라진다.
+     */
+    private void openWaitingRoom(Event event) {
+        waitingRoomService.open(event.getId(),
+            event.getStartAt().atZone(clock.getZone()).toInstant(),
+            event.getEndAt().atZone(clock.getZone()).toInstant());
+    }
+
+    /**
+     * 분할 수 미입력 시 단일 키. 칸이 쿠폰 수보다 많으면 빈 칸만 늘어나므로 막는다.
+     */
+    private int resolveStockStripes(Integer stockStripes, int totalCoupons) {
+        if (stockStripes == null) {
+            return 1;
+        }
+        if (stockStripes < 1 || stockStripes > MAX_STOCK_STRIPES
+            || stockStripes > Math.max(totalCoupons, 1)) {
+            throw new InvalidStockStripesException(stockStripes, MAX_STOCK_STRIPES);
+        }
+        return stockStripes;
     }
 
     /**
@@ -92,28 +138,91 @@ public class EventCommandService {
         LocalDateTime startAt, LocalDateTime endAt) {
         Event event = findOwnedEvent(accountId, eventId);
         event.changeEventDate(startAt, endAt);
+        Event saved = eventJpaRepository.save(event);
+
+        couponStockLifecycleService.retime(eventId, saved.stripeCount(), endAt);
+        openWaitingRoom(saved);
+        eventLifecycleScheduler.schedule(saved);
+        return toSummary(saved);
+    }
+
+    /**
+     * ✅ 발급량 수정 (진행 중에도 가능, 이벤트 행을 잠가 동시 수정은 차례로)
+     * 늘린 만큼은 대기열에 먼저 일괄 발급하고 남은 양만 Redis 재고에 더한다.
+     * 줄일 때는 남은 재고 안에서만 줄일 수 있고, 넘으면 아무것도 바꾸지 않고 409 로 거절한다.
+     */
+    public EventSummary updateCapacity(Long accountId, Long eventId, int totalCoupons) {
+        Event event = findOwnedEventForUpdate(accountId, eventId);
+        int stripes = event.stripeCount();
+        int delta = totalCoupons - event.getTotalCoupons();
+        if (delta == 0) {
+            return toSummary(event);
+        }
+
+        if (delta > 0) {
+            int promoted = couponApplicationService.fillWaitlist(eventId, stripes, delta);
+            int added = delta - promoted;
+            if (event.isPreMinted()) {
+                couponPool.mint(eventId, added);
+            }
+            // 늘리는 쪽은 커밋 후 반영 (롤백되면 재고도 늘지 않음)
+            afterCommit(() -> redisCouponStock.adjust(eventId, stripes, added));
+            event.changeCapacity(totalCoupons, added);
+        } else {
+            int decrease = -delta;
+            // 줄이는 쪽은 Redis 에서 먼저 잘라내야 실제로 줄일 수 있는 양을 안다
+            Long applied = redisCouponStock.adjust(eventId, stripes, delta);
+            if (applied == null) {
+                // 재고 키가 없으면 DB (와 저널) 기준으로 판단
+                int removable = couponStockLifecycleService.remainingInDatabase(event);
+                if (decrease > removable) {
+                    throw new CapacityDecreaseExceededException(eventId, decrease, removable);
+                }
+            } else if (-applied < decrease) {
+                // 잘라낸 만큼 바로 되돌리고 거절
+                redisCouponStock.adjust(eventId, stripes, -applied);
+                throw new CapacityDecreaseExceededException(eventId, decrease, (int) -applied);
+            } else {
+                compensateOnRollback(() -> redisCouponStock.adjust(eventId, stripes, decrease));
+            }
+            if (event.isPreMinted()) {
+                couponPool.discard(eventId, decrease);
+            }
+            event.changeCapacity(totalCoupons, delta);
+        }
         return toSummary(eventJpaRepository.save(event));
     }
 
-//    /** ✅ 발급량 수정 */
-//    public EventSummary updateCapacity(Long accountId, Long eventId, int totalCoupons) {
-//        Event event = findOwnedEvent(accountId, eventId);
-//        event.setTotalCoupons(totalCoupons);
-//        event.setRemainingCoupons(totalCoupons);
-//
-//        Event saved = eventJpaRepository.save(event);
-//        if (saved.getRemainingCoupons() > 0) {
-//            couponApplicationService.fillWaitlist(eventId);
-//        }
-//        return toSummary(saved);
-//    }
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void compensateOnRollback(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
 
     /**
      * ✅ 단건 조회
      */
     public EventSummary get(Long accountId, Long eventId) {
         Event event = findOwnedEvent(accountId, eventId);
-        return toSummary(event);
+        // 잔여 수량은 Redis(분할 시 칸 합계) 기준, 키가 없으면 coupons 행 (과 저널) 으로 다시 계산
+        // (events.remaining_coupons 는 배치 발급 경로에서 줄지 않으므로 쓰지 않는다)
+        Long remaining = redisCouponStock.remaining(eventId, event.stripeCount());
+        return toSummary(event, remaining != null
+            ? remaining.intValue() : couponStockLifecycleService.remainingInDatabase(event));
     }
 
     /**
@@ -129,10 +238,27 @@ public class EventCommandService {
         return event;
     }
 
+    /**
+     * ✅ 공통 메서드: 본인 이벤트 검증 + 행 잠금 (읽은 값으로 다시 쓰는 수정용)
+     */
+    private Event findOwnedEventForUpdate(Long accountId, Long eventId) {
+        Event event = eventJpaRepository.findByIdForUpdate(eventId)
+            .orElseThrow(() -> new EventNotFoundException(eventId));
+
+        if (!event.getAccount().getAccountId().equals(accountId)) {
+            throw new SecurityException("본인 이벤트만 접근할 수 있습니다.");
+        }
+        return event;
+    }
+
     /**
      * ✅ 요약 변환
      */
     private EventSummary toSummary(Event e) {
+        return toSummary(e, e.getRemainingCoupons());
+    }
+
+    private EventSummary toSummary(Event e, int remainingCoupons) {
         LocalDateTime now = LocalDateTime.now(clock);
         boolean active = now.isAfter(e.getStartAt()) && now.isBefore(e.getEndAt());
         return new EventSummary(
@@ -141,7 +267,7 @@ public class EventCommandService {
             e.getDescription(),
             e.getRewardDescription(),
             e.getTotalCoupons(),
-            e.getRemainingCoupons(),
+            remainingCoupons,
             e.getStartAt(),
             e.getEndAt(),
             active
@@ -0,0 +1,126 @@
+package uos.software.sirip.event.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uos.software.sirip.coupon.application.NoShowSettlementService;
+import uos.software.sirip.event.infra.jpa.Event;
+import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+
+/**
+ * 이벤트 일정(startAt/endAt)에 맞춰 단계별 작업을 예약한다.
+ * 이벤트마다 단계별로 하나의 예약만 유지하며, 일정이 바뀌면 다시 예약한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventLifecycleScheduler {
+
+    private final TaskScheduler taskScheduler;
+    private final EventLifecycleService eventLifecycleService;
+    private final EventWarmupService eventWarmupService;
+    private final NoShowSettlementService noShowSettlementService;
+    private final EventJpaRepository eventJpaRepository;
+    private final Clock clock;
+
+    private final Map<TaskKey, ScheduledFuture<?>> tasks = new ConcurrentHashMap<>();
+
+    @Value("${event.warmup.lead-time}")
+    private Duration warmupLeadTime;
+
+    /**
+     * ✅ 기동 시 보관 또는 노쇼 정산이 끝나지 않은 이벤트 재예약 (지난 작업은 즉시 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleOpenEvents() {
+        eventJpaRepository.findByArchivedAtIsNullOrNoShowSettledAtIsNull().forEach(this::schedule);
+    }
+
+    /**
+     * ✅ 이벤트 예약 (트랜잭션 중이면 커밋 후 예약)
+     */
+    public void schedule(Event event) {
+        Long eventId = event.getId();
+        LocalDateTime startAt = event.getStartAt();
+        LocalDateTime endAt = event.getEndAt();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleTasks(eventId, startAt, endAt);
+                }
+            });
+        } else {
+            scheduleTasks(eventId, startAt, endAt);
+        }
+    }
+
+    private void scheduleTasks(Long eventId, LocalDateTime startAt, LocalDateTime endAt) {
+        // 이미 시작한 이벤트는 워밍업하지 않음
+        if (startAt.isAfter(LocalDateTime.now(clock))) {
+            scheduleTask(new TaskKey(eventId, Phase.WARM_UP), startAt.minus(warmupLeadTime),
+                () -> eventWarmupService.warmUp(eventId));
+        } else {
+            cancelTask(new TaskKey(eventId, Phase.WARM_UP));
+        }
+        scheduleTask(new TaskKey(eventId, Phase.CLOSE), endAt,
+            () -> eventLifecycleService.close(eventId));
+        // 오프라인 스캐너 동기화 · 토큰 사용 반영을 기다린 뒤 정산
+        scheduleTask(new TaskKey(eventId, Phase.SETTLE_NO_SHOW),
+            endAt.plus(noShowSettlementService.grace()),
+            () -> noShowSettlementService.settle(eventId));
+    }
+
+    private void scheduleTask(TaskKey key, LocalDateTime runAt, Runnable action) {
+        Instant instant = runAt.atZone(clock.getZone()).toInstant();
+        tasks.compute(key, (k, previous) -> {
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            return taskScheduler.schedule(() -> run(key, action), instant);
+        });
+    }
+
+    private void cancelTask(TaskKey key) {
+        ScheduledFuture<?> previous = tasks.remove(key);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void run(TaskKey key, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("Lifecycle task {} for event {} failed", key.phase(), key.eventId(), e);
+        } finally {
+            // 실행 중 재예약된 경우(지연 시간이 남은 예약)는 유지
+            tasks.computeIfPresent(key,
+                (k, future) -> future.getDelay(TimeUnit.MILLISECONDS) <= 0 ? null : future);
+        }
+    }
+
+    private enum Phase {
+        WARM_UP,
+        CLOSE,
+        SETTLE_NO_SHOW
+    }
+
+    private record TaskKey(Long eventId, Phase phase) {
+    }
+}
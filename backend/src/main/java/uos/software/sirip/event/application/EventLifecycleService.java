@@ -0,0 +1,41 @@
+package uos.software.sirip.event.application;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uos.software.sirip.coupon.application.CouponStockLifecycleService;
+import uos.software.sirip.event.infra.jpa.Event;
+import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EventLifecycleService {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final CouponStockLifecycleService couponStockLifecycleService;
+    private final Clock clock;
+
+    /**
+     * ✅ 이벤트 종료 처리: 신청 집합 보관 후 Redis 키 만료
+     */
+    public void close(Long eventId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Event event = eventJpaRepository.findById(eventId).orElse(null);
+        if (event == null || event.getEndAt().isAfter(now)) {
+            // 삭제되었거나 일정이 뒤로 밀린 이벤트
+            return;
+        }
+
+        if (eventJpaRepository.markArchived(eventId, now) == 0) {
+            return;
+        }
+
+        int archived = couponStockLifecycleService.archiveAndExpire(eventId, event.stripeCount(), now);
+        log.info("Event {} closed, {} applications archived", eventId, archived);
+    }
+}
@@ -0,0 +1,128 @@
+package uos.software.sirip.event.application;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 종료된 이벤트를 보상 모델 학습 데이터(event_logs_realistic_300.csv)와 같은 형식으로 내보낸다.
+ *
+ * MySQL 스트리밍 커서(fetchSize = Integer.MIN_VALUE)로 한 행씩 읽어 바로 쓰므로
+ * 이벤트 수와 무관하게 메모리를 일정하게 쓴다. 쿠폰 집계는 이벤트마다 인덱스 범위 조회
+ * (coupons.event_id, status) 서브쿼리라 GROUP BY 임시 테이블 없이 이벤트 순서대로 흘려보낸다.
+ */
+@Service
+public class EventLogExportService {
+
+    public static final List<String> COLUMNS = List.of(
+        "event_id", "title", "event_type", "organizer_type", "target_major", "target_grade",
+        "weekday", "brand_score", "date_gap", "reward_amount",
+        "applied_participants", "attended_participants");
+
+    private static final String EXPORT_SQL = """
+        SELECT e.id, e.title, e.event_type, e.organizer_type, e.target_major, e.target_grade,
+               e.brand_score, e.start_at, e.reward_description,
+               (SELECT COUNT(*) FROM coupons c
+                 WHERE c.event_id = e.id AND c.status <> 'MINTED') AS applied,
+               (SELECT COUNT(*) FROM coupons c
+                 WHERE c.event_id = e.id AND c.status = 'REDEEMED') AS attended,
+               (SELECT MIN(c.applied_at) FROM coupons c WHERE c.event_id = e.id) AS first_applied_at
+        FROM events e
+        WHERE e.account_id = ? AND e.end_at < ?
+        ORDER BY e.id
+        """;
+    private static final Pattern AMOUNT = Pattern.compile("\\d[\\d,]*");
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final Clock clock;
+
+    public EventLogExportService(DataSource dataSource, Clock clock) {
+        // 공용 JdbcTemplate 설정을 바꾸지 않도록 내보내기 전용 인스턴스 사용
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.clock = clock;
+    }
+
+    /**
+     * ✅ 본인 소유의 종료된 이벤트 로그 CSV 내보내기 (헤더 포함, 내보낸 행 수 반환)
+     */
+    public int export(Long accountId, Writer writer) {
+        int[] rows = {0};
+        try {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+            streamingJdbcTemplate.query(EXPORT_SQL, rs -> {
+                writeRow(writer, rs);
+                rows[0]++;
+            }, accountId, Timestamp.valueOf(LocalDateTime.now(clock)));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows[0];
+    }
+
+    private void writeRow(Writer writer, ResultSet rs) throws SQLException {
+        LocalDateTime startAt = rs.getTimestamp("start_at").toLocalDateTime();
+        Timestamp firstAppliedAt = rs.getTimestamp("first_applied_at");
+        // 공지 시각을 저장하지 않으므로 첫 신청부터 시작까지의 일수를 date_gap 으로 사용
+        long dateGap = firstAppliedAt == null ? 0
+            : Math.max(ChronoUnit.DAYS.between(
+                firstAppliedAt.toLocalDateTime().toLocalDate(), startAt.toLocalDate()), 0);
+        double brandScore = rs.getDouble("brand_score");
+        String brandScoreValue = rs.wasNull() ? "" : Double.toString(brandScore);
+
+        String line = String.join(",",
+            Long.toString(rs.getLong("id")),
+            csv(rs.getString("title")),
+            csv(rs.getString("event_type")),
+            csv(rs.getString("organizer_type")),
+            csv(rs.getString("target_major")),
+            csv(rs.getString("target_grade")),
+            startAt.getDayOfWeek().name().substring(0, 3),
+            brandScoreValue,
+            Long.toString(dateGap),
+            rewardAmount(rs.getString("reward_description")),
+            Long.toString(rs.getLong("applied")),
+            Long.toString(rs.getLong("attended")));
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 보상 설명("5,000원 상품권" 등)에서 첫 번째 금액만 꺼낸다. 없으면 빈 값
+     */
+    private static String rewardAmount(String rewardDescription) {
+        if (rewardDescription == null) {
+            return "";
+        }
+        Matcher matcher = AMOUNT.matcher(rewardDescription);
+        return matcher.find() ? matcher.group().replace(",", "") : "";
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
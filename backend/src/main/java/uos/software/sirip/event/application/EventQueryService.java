@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import uos.software.sirip.event.infra.jpa.Event;
 import uos.software.sirip.event.infra.jpa.EventJpaRepository;
 
@@ -17,6 +18,7 @@ public class EventQueryService {
     private final EventJpaRepository eventRepository;
     private final Clock clock;
 
+    @Transactional(readOnly = true)
     public List<EventSummary> listEvents() {
         LocalDateTime now = LocalDateTime.now(clock);
         return eventRepository.findAll()
@@ -1,40 +1,54 @@
 package uos.software.sirip.event.application;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import uos.software.sirip.event.infra.external.OptimizeRequest;
+import uos.software.sirip.event.infra.external.OptimizeResponse;
 import uos.software.sirip.event.infra.external.RewardOptimizeClient;
 import uos.software.sirip.event.infra.jpa.Event;
 import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+import uos.software.sirip.event.infra.model.LocalRewardModel;
 
 @Service
 @RequiredArgsConstructor
 public class EventRewardService {
 
     private final RewardOptimizeClient rewardOptimizeClient;
+    private final LocalRewardModel localRewardModel;
     private final EventJpaRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reward-api.bulk-concurrency}")
+    private int bulkConcurrency;
+
+    @Value("${reward-api.bulk-deadline}")
+    private Duration bulkDeadline;
 
     @Transactional
     public EventSummary optimizeAndApplyReward(Long eventId, int targetParticipants) {
 
         Event event = eventRepository.getReferenceById(eventId);
 
-        OptimizeRequest req = new OptimizeRequest();
+        OptimizeRequest req = OptimizeRequest.of(event, targetParticipants, LocalDateTime.now());
 
-        req.setTitle(event.getTitle());
-        req.setEventType(event.getEventType());
-        req.setOrganizerType(event.getOrganizerType());
-        req.setTargetMajor(event.getTargetMajor());
-        req.setTargetGrade(event.getTargetGrade());
-        req.setWeekday(event.getWeekday());
-        req.setBrandScore(event.getBrandScore());
-        req.setDateGap(event.getDateGap(LocalDateTime.now()));
-        req.setTargetParticipants(targetParticipants);
-
-        // AI 모델에서 추천 reward 받기
-        double recommendedReward = rewardOptimizeClient.optimizeReward(req);
+        // 로컬 모델이 있으면 JVM 안에서, 없으면 AI 서버에서 추천 reward 받기
+        double recommendedReward = localRewardModel.current()
+            .map(model -> model.findBestReward(req).reward())
+            .orElseGet(() -> rewardOptimizeClient.optimizeReward(req));
 
         // 이벤트에 바로 적용
         event.changeRewardDescription(String.valueOf((int) recommendedReward));
@@ -42,6 +56,74 @@ public class EventRewardService {
         return toSummary(event, LocalDateTime.now());
     }
 
+    /**
+     * ✅ 여러 이벤트 일괄 최적화
+     * 이벤트는 한 번에 조회하고, 추천 호출은 제한된 동시성으로 병렬 처리한 뒤
+     * 성공한 결과만 하나의 트랜잭션에서 id 로 반영한다 (다시 조회하지 않음).
+     * 전체 대기는 bulk-deadline 까지이며, 그때까지 끝나지 않은 이벤트는 실패로 돌려준다.
+     */
+    public List<RewardOptimizeResult> optimizeAndApplyRewards(Map<Long, Integer> targetsByEventId) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Event> events = eventRepository.findAllById(targetsByEventId.keySet())
+            .stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        List<RewardOptimizeResult> results = new ArrayList<>();
+        List<Long> foundIds = new ArrayList<>();
+        for (Long eventId : targetsByEventId.keySet()) {
+            if (events.containsKey(eventId)) {
+                foundIds.add(eventId);
+            } else {
+                results.add(RewardOptimizeResult.failed(eventId, "Event not found"));
+            }
+        }
+
+        // 기한이 지나면 남은 호출을 취소하고 그때까지 나온 결과만 모은다
+        List<RewardOptimizeResult> optimized = Flux.fromIterable(foundIds)
+            .flatMap(eventId -> optimize(events.get(eventId), targetsByEventId.get(eventId), now),
+                bulkConcurrency)
+            .take(bulkDeadline)
+            .collectList()
+            .block();
+        Set<Long> finished = new HashSet<>();
+        if (optimized != null) {
+            optimized.forEach(result -> finished.add(result.eventId()));
+            results.addAll(optimized);
+        }
+        for (Long eventId : foundIds) {
+            if (!finished.contains(eventId)) {
+                results.add(RewardOptimizeResult.failed(eventId,
+                    "Deadline exceeded (" + bulkDeadline.toSeconds() + "s)"));
+            }
+        }
+
+        Map<Long, Double> rewards = results.stream()
+            .filter(RewardOptimizeResult::applied)
+            .collect(Collectors.toMap(RewardOptimizeResult::eventId,
+                RewardOptimizeResult::recommendedReward));
+
+        transactionTemplate.executeWithoutResult(status ->
+            rewards.forEach((eventId, reward) -> eventRepository.updateRewardDescription(
+                eventId, String.valueOf(reward.intValue()))));
+
+        return results;
+    }
+
+    private Mono<RewardOptimizeResult> optimize(Event event, int targetParticipants,
+        LocalDateTime now) {
+        return recommend(OptimizeRequest.of(event, targetParticipants, now))
+            .map(reward -> RewardOptimizeResult.applied(event.getId(), reward))
+            .onErrorResume(e -> Mono.just(RewardOptimizeResult.failed(event.getId(),
+                e.getMessage())));
+    }
+
+    private Mono<Double> recommend(OptimizeRequest req) {
+        return localRewardModel.current()
+            .map(model -> Mono.fromCallable(() -> model.findBestReward(req).reward()))
+            .orElseGet(() -> rewardOptimizeClient.optimize(req)
+                .map(OptimizeResponse::getRecommended_reward));
+    }
+
     private EventSummary toSummary(Event event, LocalDateTime now) {
         return new EventSummary(
                 event.getId(),
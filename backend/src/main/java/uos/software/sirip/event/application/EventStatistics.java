@@ -0,0 +1,24 @@
+package uos.software.sirip.event.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 실시간 통계. 비율은 발급(승급 포함)된 쿠폰 기준이며 발급이 없으면 null.
+ */
+public record EventStatistics(
+    Long eventId,
+    int totalCoupons,
+    int remainingCoupons,
+    long issued,
+    long promoted,
+    long redeemed,
+    long noShow,
+    long cancelled,
+    long issuedLastMinute,
+    double issueRatePerMinute,
+    LocalDateTime firstIssuedAt,
+    Long secondsToSoldOut,
+    Double redemptionRate,
+    Double noShowRate
+) {
+}
@@ -0,0 +1,49 @@
+package uos.software.sirip.event.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uos.software.sirip.coupon.application.CouponStateChange;
+import uos.software.sirip.coupon.application.CouponStateChangeSubscriber;
+import uos.software.sirip.coupon.infra.redis.EventStatisticsDelta;
+import uos.software.sirip.coupon.infra.redis.RedisEventStatistics;
+
+/**
+ * 아웃박스로 전달된 쿠폰 상태 변경을 이벤트 통계에 누적한다.
+ * 배치 안에서 이벤트별로 먼저 묶으므로 Redis 호출은 이벤트 수만큼만 (파이프라인 한 번).
+ * 같은 변경이 다시 전달되면 스크립트가 outboxId 로 걸러 두 번 세지 않는다.
+ */
+@Component
+public class EventStatisticsRecorder implements CouponStateChangeSubscriber {
+
+    private final RedisEventStatistics redisEventStatistics;
+    private final Clock clock;
+    private final Duration rateRetention;
+    private final Duration dedupRetention;
+
+    public EventStatisticsRecorder(
+        RedisEventStatistics redisEventStatistics,
+        Clock clock,
+        @Value("${event.statistics.rate-retention}") Duration rateRetention,
+        @Value("${event.statistics.dedup-retention}") Duration dedupRetention) {
+        this.redisEventStatistics = redisEventStatistics;
+        this.clock = clock;
+        this.rateRetention = rateRetention;
+        this.dedupRetention = dedupRetention;
+    }
+
+    @Override
+    public void onChanges(List<CouponStateChange> changes) {
+        Map<Long, EventStatisticsDelta> deltas = new HashMap<>();
+        for (CouponStateChange change : changes) {
+            deltas.computeIfAbsent(change.eventId(), id -> new EventStatisticsDelta())
+                .add(change.outboxId(), change.type(),
+                    change.occurredAt().atZone(clock.getZone()).toInstant());
+        }
+        redisEventStatistics.record(deltas, rateRetention, dedupRetention);
+    }
+}
@@ -0,0 +1,120 @@
+package uos.software.sirip.event.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uos.software.sirip.coupon.application.CouponStockLifecycleService;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+import uos.software.sirip.coupon.infra.redis.RedisEventStatistics;
+import uos.software.sirip.event.exception.EventNotFoundException;
+import uos.software.sirip.event.infra.jpa.Event;
+import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+
+/**
+ * 이벤트 통계 조회. coupons 테이블을 세지 않고 아웃박스로 누적한 Redis 카운터만 읽는다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EventStatisticsService {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final RedisCouponStock redisCouponStock;
+    private final RedisEventStatistics redisEventStatistics;
+    private final CouponStockLifecycleService couponStockLifecycleService;
+    private final Clock clock;
+    private final int rateWindowMinutes;
+
+    public EventStatisticsService(
+        EventJpaRepository eventJpaRepository,
+        RedisCouponStock redisCouponStock,
+        RedisEventStatistics redisEventStatistics,
+        CouponStockLifecycleService couponStockLifecycleService,
+        Clock clock,
+        @Value("${event.statistics.rate-window}") Duration rateWindow) {
+        this.eventJpaRepository = eventJpaRepository;
+        this.redisCouponStock = redisCouponStock;
+        this.redisEventStatistics = redisEventStatistics;
+        this.couponStockLifecycleService = couponStockLifecycleService;
+        this.clock = clock;
+        this.rateWindowMinutes = (int) Math.max(rateWindow.toMinutes(), 1);
+    }
+
+    /**
+     * ✅ 본인 이벤트 실시간 통계
+     */
+    public EventStatistics get(Long accountId, Long eventId) {
+        Event event = eventJpaRepository.findById(eventId)
+            .orElseThrow(() -> new EventNotFoundException(eventId));
+        if (!event.getAccount().getAccountId().equals(accountId)) {
+            throw new SecurityException("본인 이벤트만 접근할 수 있습니다.");
+        }
+
+        Map<String, String> counters = redisEventStatistics.counters(eventId);
+        long issued = counter(counters, "issued");
+        long promoted = counter(counters, "promoted");
+        long redeemed = counter(counters, "redeemed");
+        long noShow = counter(counters, "no_show");
+        long cancelled = counter(counters, "cancelled");
+
+        // 현재 분은 아직 진행 중이라 직전 분부터 창 크기만큼 평균
+        long currentMinute = Instant.now(clock).getEpochSecond() / 60;
+        List<Long> minutes = new ArrayList<>(rateWindowMinutes);
+        for (int i = 1; i <= rateWindowMinutes; i++) {
+            minutes.add(currentMinute - i);
+        }
+        List<Long> perMinute = redisEventStatistics.issuedPerMinute(eventId, minutes);
+        long windowTotal = perMinute.stream().mapToLong(Long::longValue).sum();
+
+        Long remainingInRedis = redisCouponStock.remaining(eventId, event.stripeCount());
+        int remaining = remainingInRedis != null
+            ? remainingInRedis.intValue() : couponStockLifecycleService.remainingInDatabase(event);
+
+        long granted = issued + promoted;
+        return new EventStatistics(
+            eventId,
+            event.getTotalCoupons(),
+            remaining,
+            issued,
+            promoted,
+            redeemed,
+            noShow,
+            cancelled,
+            perMinute.get(0),
+            (double) windowTotal / rateWindowMinutes,
+            toDateTime(counters.get("first_issued_at")),
+            secondsToSoldOut(event, remaining, counters.get("last_issued_at")),
+            granted == 0 ? null : (double) redeemed / granted,
+            granted == 0 ? null : (double) noShow / granted
+        );
+    }
+
+    /**
+     * 재고가 모두 나갔으면 오픈부터 마지막 즉시 발급까지 걸린 시간
+     */
+    private Long secondsToSoldOut(Event event, int remaining, String lastIssuedAt) {
+        if (remaining > 0 || lastIssuedAt == null) {
+            return null;
+        }
+        LocalDateTime soldOutAt = toDateTime(lastIssuedAt);
+        return Math.max(Duration.between(event.getStartAt(), soldOutAt).toSeconds(), 0);
+    }
+
+    private LocalDateTime toDateTime(String epochMillis) {
+        if (epochMillis == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), clock.getZone());
+    }
+
+    private static long counter(Map<String, String> counters, String field) {
+        String value = counters.get(field);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,155 @@
+package uos.software.sirip.event.application;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uos.software.sirip.coupon.application.CouponApplicationService;
+import uos.software.sirip.coupon.application.CouponStockLifecycleService;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+import uos.software.sirip.event.infra.jpa.Event;
+import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+
+/**
+ * 이벤트 오픈 직전 워밍업: 커넥션 풀 채우기, Redis 재고 키 확인,
+ * 신청 경로를 JIT 컴파일이 안정될 때까지 반복 실행.
+ * 신청 경로는 실제 계정 · 재고 대신 합성 계정 id 와 그림자 이벤트 키(-eventId)로 돌린다.
+ */
+@Slf4j
+@Service
+public class EventWarmupService {
+
+    // 워밍업이 중간에 죽어도 그림자 키가 남지 않도록
+    private static final Duration SHADOW_KEY_TTL = Duration.ofMinutes(10);
+
+    private final DataSource dataSource;
+    private final RedisCouponStock redisCouponStock;
+    private final EventJpaRepository eventJpaRepository;
+    private final CouponApplicationService couponApplicationService;
+    private final CouponStockLifecycleService couponStockLifecycleService;
+    private final int poolConnections;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long settledCompileMillis;
+
+    public EventWarmupService(
+        DataSource dataSource,
+        RedisCouponStock redisCouponStock,
+        EventJpaRepository eventJpaRepository,
+        CouponApplicationService couponApplicationService,
+        CouponStockLifecycleService couponStockLifecycleService,
+        @Value("${event.warmup.pool-connections}") int poolConnections,
+        @Value("${event.warmup.batch-size}") int batchSize,
+        @Value("${event.warmup.max-batches}") int maxBatches,
+        @Value("${event.warmup.settled-compile-millis}") long settledCompileMillis) {
+        this.dataSource = dataSource;
+        this.redisCouponStock = redisCouponStock;
+        this.eventJpaRepository = eventJpaRepository;
+        this.couponApplicationService = couponApplicationService;
+        this.couponStockLifecycleService = couponStockLifecycleService;
+        this.poolConnections = poolConnections;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.settledCompileMillis = settledCompileMillis;
+    }
+
+    /**
+     * ✅ 이벤트 워밍업
+     */
+    public void warmUp(Long eventId) {
+        Event event = eventJpaRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+
+        fillConnectionPool();
+        verifyStockKey(event);
+        int iterations = exerciseApplyPath(event);
+        log.info("Event {} warmed up with {} synthetic apply calls", eventId, iterations);
+    }
+
+    /**
+     * 커넥션을 동시에 빌려 풀을 최대 크기까지 채운다.
+     */
+    private void fillConnectionPool() {
+        List<Connection> borrowed = new ArrayList<>(poolConnections);
+        try {
+            for (int i = 0; i < poolConnections; i++) {
+                Connection connection = dataSource.getConnection();
+                borrowed.add(connection);
+                connection.isValid(1);
+            }
+        } catch (SQLException e) {
+            log.warn("Connection pool warm-up stopped after {} connections", borrowed.size(), e);
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 반납 실패는 풀에서 처리
+                }
+            }
+        }
+    }
+
+    /**
+     * 잔여 수량 키가 없으면 DB 와 로컬 저널 기준으로 다시 만든다.
+     */
+    private void verifyStockKey(Event event) {
+        if (redisCouponStock.remaining(event.getId(), event.stripeCount()) != null) {
+            return;
+        }
+
+        int remaining = couponStockLifecycleService.restore(event);
+        log.warn("Stock key for event {} was missing, restored remain={}", event.getId(), remaining);
+    }
+
+    /**
+     * 그림자 키를 배치 크기만큼 채워 두고 신청 경로(차감 후 되돌리기)를 배치 단위로 반복하고,
+     * 한 배치 동안 JIT 컴파일 시간이 거의 늘지 않으면 안정된 것으로 본다.
+     */
+    private int exerciseApplyPath(Event event) {
+        Long eventId = event.getId();
+        Long shadowEventId = -eventId;
+        int stripes = event.stripeCount();
+        redisCouponStock.seed(shadowEventId, stripes, batchSize, SHADOW_KEY_TTL);
+        if (event.isPreMinted()) {
+            redisCouponStock.pushToPool(shadowEventId,
+                LongStream.rangeClosed(1, batchSize).boxed().toList());
+        }
+
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean monitorCompilation = compilation != null
+            && compilation.isCompilationTimeMonitoringSupported();
+
+        int iterations = 0;
+        long previousCompileTime = monitorCompilation ? compilation.getTotalCompilationTime() : 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                for (int i = 0; i < batchSize; i++) {
+                    couponApplicationService.warmUpApply(eventId, shadowEventId, (long) i + 1);
+                    iterations++;
+                }
+
+                if (monitorCompilation) {
+                    long compileTime = compilation.getTotalCompilationTime();
+                    if (compileTime - previousCompileTime < settledCompileMillis) {
+                        break;
+                    }
+                    previousCompileTime = compileTime;
+                }
+            }
+        } finally {
+            redisCouponStock.delete(shadowEventId, stripes);
+        }
+        return iterations;
+    }
+}
@@ -0,0 +1,17 @@
+package uos.software.sirip.event.application;
+
+public record RewardOptimizeResult(
+    Long eventId,
+    boolean applied,
+    Double recommendedReward,
+    String failureReason
+) {
+
+    public static RewardOptimizeResult applied(Long eventId, double recommendedReward) {
+        return new RewardOptimizeResult(eventId, true, recommendedReward, null);
+    }
+
+    public static RewardOptimizeResult failed(Long eventId, String failureReason) {
+        return new RewardOptimizeResult(eventId, false, null, failureReason);
+    }
+}
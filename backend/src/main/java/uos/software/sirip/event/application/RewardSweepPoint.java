@@ -0,0 +1,6 @@
+package uos.software.sirip.event.application;
+
+public record RewardSweepPoint(
+    double reward,
+    double predictedParticipants
+) { }
@@ -0,0 +1,86 @@
+package uos.software.sirip.event.application;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import uos.software.sirip.event.exception.EventNotFoundException;
+import uos.software.sirip.event.exception.InvalidRewardSweepException;
+import uos.software.sirip.event.infra.external.OptimizeRequest;
+import uos.software.sirip.event.infra.external.RewardOptimizeClient;
+import uos.software.sirip.event.infra.jpa.Event;
+import uos.software.sirip.event.infra.jpa.EventJpaRepository;
+import uos.software.sirip.event.infra.model.LocalRewardModel;
+
+@Service
+@RequiredArgsConstructor
+public class RewardSweepService {
+
+    private static final int MAX_POINTS = 200;
+    private static final int MEMO_CAPACITY = 10_000;
+
+    private final EventJpaRepository eventRepository;
+    private final LocalRewardModel localRewardModel;
+    private final RewardOptimizeClient rewardOptimizeClient;
+    private final Clock clock;
+
+    // (이벤트 특성 키, 리워드) → 예상 참여자 수, LRU
+    private final Map<String, Double> predictionMemo = Collections.synchronizedMap(
+        new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+                return size() > MEMO_CAPACITY;
+            }
+        });
+
+    @Value("${reward-api.sweep-concurrency}")
+    private int sweepConcurrency;
+
+    /**
+     * ✅ 리워드 구간별 예상 참여자 수
+     * 각 지점은 제한된 동시성으로 계산되며, 완료되는 순서대로 흘려보낸다.
+     */
+    public Flux<RewardSweepPoint> sweep(Long eventId, double from, double to, double step) {
+        if (from < 0 || to < from || step <= 0) {
+            throw new InvalidRewardSweepException("0 <= from <= to, step > 0 이어야 합니다.");
+        }
+        long points = (long) Math.floor((to - from) / step) + 1;
+        if (points > MAX_POINTS) {
+            throw new InvalidRewardSweepException("한 번에 최대 " + MAX_POINTS + "개 지점까지 계산할 수 있습니다.");
+        }
+
+        Event event = eventRepository.findById(eventId)
+            .orElseThrow(() -> new EventNotFoundException(eventId));
+        OptimizeRequest features = OptimizeRequest.of(event, 0, LocalDateTime.now(clock));
+        String profileKey = features.featureKey();
+
+        return Flux.range(0, (int) points)
+            .map(i -> from + i * step)
+            .flatMap(reward -> predict(features, profileKey, reward), sweepConcurrency);
+    }
+
+    private Mono<RewardSweepPoint> predict(OptimizeRequest features, String profileKey,
+        double reward) {
+        String memoKey = profileKey + "@" + reward;
+        Double memoized = predictionMemo.get(memoKey);
+        if (memoized != null) {
+            return Mono.just(new RewardSweepPoint(reward, memoized));
+        }
+
+        Mono<Double> prediction = localRewardModel.current()
+            .map(model -> Mono.fromCallable(() -> model.predictParticipants(features, reward))
+                .subscribeOn(Schedulers.parallel()))
+            .orElseGet(() -> rewardOptimizeClient.predictParticipants(features, reward));
+
+        return prediction
+            .doOnNext(predicted -> predictionMemo.put(memoKey, predicted))
+            .map(predicted -> new RewardSweepPoint(reward, predicted));
+    }
+}
@@ -0,0 +1,13 @@
+package uos.software.sirip.event.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CapacityDecreaseExceededException extends RuntimeException {
+
+    public CapacityDecreaseExceededException(Long eventId, int requested, int removable) {
+        super("남은 재고보다 많이 줄일 수 없습니다. eventId=" + eventId
+            + ", 요청 감소량=" + requested + ", 줄일 수 있는 양=" + removable);
+    }
+}
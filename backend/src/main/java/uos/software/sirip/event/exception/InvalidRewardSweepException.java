@@ -0,0 +1,12 @@
+package uos.software.sirip.event.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRewardSweepException extends RuntimeException {
+
+    public InvalidRewardSweepException(String message) {
+        super(message);
+    }
+}
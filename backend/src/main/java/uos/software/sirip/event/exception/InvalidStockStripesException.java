@@ -0,0 +1,12 @@
+package uos.software.sirip.event.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidStockStripesException extends RuntimeException {
+
+    public InvalidStockStripesException(int stockStripes, int maxStripes) {
+        super("재고 분할 수는 1 이상 " + maxStripes + " 이하이며 쿠폰 수를 넘을 수 없습니다: " + stockStripes);
+    }
+}
@@ -0,0 +1,16 @@
+package uos.software.sirip.event.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class RewardOptimizeUnavailableException extends RuntimeException {
+
+    public RewardOptimizeUnavailableException(String message) {
+        super(message);
+    }
+
+    public RewardOptimizeUnavailableException(Throwable cause) {
+        super("리워드 추천 서버를 사용할 수 없습니다.", cause);
+    }
+}
@@ -1,8 +1,10 @@
 package uos.software.sirip.event.infra.external;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
+import uos.software.sirip.event.infra.jpa.Event;
 
 @Getter
 @Setter
@@ -34,5 +36,40 @@ public class OptimizeRequest {
     private double targetParticipants;
 
     // getters & setters
+
+    public static OptimizeRequest of(Event event, double targetParticipants, LocalDateTime now) {
+        OptimizeRequest req = new OptimizeRequest();
+
+        req.setTitle(event.getTitle());
+        req.setEventType(event.getEventType());
+        req.setOrganizerType(event.getOrganizerType());
+        req.setTargetMajor(event.getTargetMajor());
+        req.setTargetGrade(event.getTargetGrade());
+        req.setWeekday(event.getWeekday());
+        req.setBrandScore(event.getBrandScore());
+        req.setDateGap(event.getDateGap(now));
+        req.setTargetParticipants(targetParticipants);
+        return req;
+    }
+
+    /**
+     * 모델 입력 특성만으로 만든 정규화 키 (title 은 모델 입력이 아니므로 제외)
+     */
+    public String featureKey() {
+        return String.join("|",
+            normalize(eventType),
+            normalize(organizerType),
+            normalize(targetMajor),
+            normalize(targetGrade),
+            normalize(weekday),
+            Double.toString(brandScore),
+            Integer.toString(dateGap),
+            Double.toString(targetParticipants)
+        );
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip();
+    }
 }
 
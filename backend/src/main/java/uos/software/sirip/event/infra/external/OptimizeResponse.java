@@ -3,6 +3,8 @@ package uos.software.sirip.event.infra.external;
 public class OptimizeResponse {
 
     private double recommended_reward;
+    private double expected_participants;
+    private String error;
 
     public double getRecommended_reward() {
         return recommended_reward;
@@ -11,4 +13,20 @@ public class OptimizeResponse {
     public void setRecommended_reward(double recommended_reward) {
         this.recommended_reward = recommended_reward;
     }
-}
\ No newline at end of file
+
+    public double getExpected_participants() {
+        return expected_participants;
+    }
+
+    public void setExpected_participants(double expected_participants) {
+        this.expected_participants = expected_participants;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,20 @@
+package uos.software.sirip.event.infra.external;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Getter;
+
+@Getter
+public class PredictRequest {
+
+    @JsonUnwrapped
+    private final OptimizeRequest features;
+
+    @JsonProperty("reward_amount")
+    private final double rewardAmount;
+
+    public PredictRequest(OptimizeRequest features, double rewardAmount) {
+        this.features = features;
+        this.rewardAmount = rewardAmount;
+    }
+}
@@ -0,0 +1,23 @@
+package uos.software.sirip.event.infra.external;
+
+public class PredictResponse {
+
+    private double predicted_participants;
+    private String error;
+
+    public double getPredicted_participants() {
+        return predicted_participants;
+    }
+
+    public void setPredicted_participants(double predicted_participants) {
+        this.predicted_participants = predicted_participants;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -1,27 +1,193 @@
 package uos.software.sirip.event.infra.external;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import uos.software.sirip.event.exception.RewardOptimizeUnavailableException;
 
+/**
+ * reward-api(FastAPI) 호출 클라이언트.
+ * 타임아웃 → 벌크헤드 → 서킷 브레이커 → 재시도 순으로 감싸고,
+ * 동일한 특성 벡터의 응답은 Redis 에 캐시한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RewardOptimizeClient {
 
+    private static final String CACHE_KEY_PREFIX = "reward:optimize:";
+
     private final WebClient aiWebClient;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration responseTimeout;
+    private final Duration cacheTtl;
+    private final int maxRetries;
+
+    public RewardOptimizeClient(
+        @Qualifier("aiWebClient") WebClient aiWebClient,
+        ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${reward-api.response-timeout}") Duration responseTimeout,
+        @Value("${reward-api.cache-ttl}") Duration cacheTtl,
+        @Value("${reward-api.max-retries}") int maxRetries,
+        @Value("${reward-api.circuit-breaker.failure-rate-threshold}") float failureRateThreshold,
+        @Value("${reward-api.circuit-breaker.open-duration}") Duration openDuration,
+        @Value("${reward-api.bulkhead.max-concurrent-calls}") int maxConcurrentCalls) {
+        this.aiWebClient = aiWebClient;
+        this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.responseTimeout = responseTimeout;
+        this.cacheTtl = cacheTtl;
+        this.maxRetries = maxRetries;
+
+        this.circuitBreaker = CircuitBreaker.of("reward-api", CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallDurationThreshold(responseTimeout)
+            .slidingWindowSize(20)
+            .minimumNumberOfCalls(10)
+            .waitDurationInOpenState(openDuration)
+            .build());
+        this.bulkhead = Bulkhead.of("reward-api", BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    }
 
+    /**
+     * ✅ 비동기 추천 호출 (캐시 우선)
+     */
+    public Mono<OptimizeResponse> optimize(OptimizeRequest req) {
+        String cacheKey = buildCacheKey(req);
+        return readCache(cacheKey)
+            .switchIfEmpty(Mono.defer(() -> callOptimize(req)
+                .flatMap(response -> writeCache(cacheKey, response).thenReturn(response))));
+    }
+
+    /**
+     * ✅ 동기 호출 (기존 서블릿 코드용, 최대 대기 시간 제한)
+     * 캐시 조회까지 포함한 전체 시간이 넘으면 다른 실패와 같이 RewardOptimizeUnavailableException
+     */
     public double optimizeReward(OptimizeRequest req) {
-        OptimizeResponse response = aiWebClient.post()
+        OptimizeResponse response = optimize(req)
+            .timeout(maxBlockDuration())
+            .onErrorMap(TimeoutException.class, RewardOptimizeUnavailableException::new)
+            .block();
+
+        if (response == null) {
+            throw new RewardOptimizeUnavailableException("AI 응답이 비어 있습니다.");
+        }
+
+        return response.getRecommended_reward();
+    }
+
+    /**
+     * ✅ 특정 리워드 금액에서의 예상 참여자 수
+     */
+    public Mono<Double> predictParticipants(OptimizeRequest features, double reward) {
+        return protect(aiWebClient.post()
+                .uri("/predict")
+                .bodyValue(new PredictRequest(features, reward))
+                .retrieve()
+                .bodyToMono(PredictResponse.class)
+                .flatMap(response -> response.getError() != null
+                    ? Mono.<Double>error(new RewardOptimizeUnavailableException(response.getError()))
+                    : Mono.just(response.getPredicted_participants())));
+    }
+
+    private Mono<OptimizeResponse> callOptimize(OptimizeRequest req) {
+        return protect(aiWebClient.post()
                 .uri("/optimize")
                 .bodyValue(req)
                 .retrieve()
                 .bodyToMono(OptimizeResponse.class)
-                .block(); // 동기 호출
+                .flatMap(response -> response.getError() != null
+                    ? Mono.<OptimizeResponse>error(new RewardOptimizeUnavailableException(response.getError()))
+                    : Mono.just(response)));
+    }
 
-        if (response == null) {
-            throw new IllegalStateException("AI 응답이 비어 있습니다.");
+    private <T> Mono<T> protect(Mono<T> call) {
+        return call
+                .timeout(responseTimeout)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(200))
+                    .filter(this::isTransient))
+                .onErrorMap(e -> !(e instanceof RewardOptimizeUnavailableException),
+                    RewardOptimizeUnavailableException::new);
+    }
+
+    private boolean isTransient(Throwable e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            return false;
         }
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
 
-        return response.getRecommended_reward();
+    private Mono<OptimizeResponse> readCache(String cacheKey) {
+        return reactiveStringRedisTemplate.opsForValue().get(cacheKey)
+            .flatMap(cached -> {
+                try {
+                    return Mono.just(objectMapper.readValue(cached, OptimizeResponse.class));
+                } catch (JsonProcessingException e) {
+                    return Mono.empty();
+                }
+            })
+            .onErrorResume(e -> {
+                log.warn("Reward optimize cache lookup failed", e);
+                return Mono.empty();
+            });
+    }
+
+    private Mono<Boolean> writeCache(String cacheKey, OptimizeResponse response) {
+        try {
+            String value = objectMapper.writeValueAsString(response);
+            return reactiveStringRedisTemplate.opsForValue().set(cacheKey, value, cacheTtl)
+                .onErrorReturn(false);
+        } catch (JsonProcessingException e) {
+            return Mono.just(false);
+        }
+    }
+
+    private String buildCacheKey(OptimizeRequest req) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(req.featureKey().getBytes(StandardCharsets.UTF_8));
+            return CACHE_KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Duration maxBlockDuration() {
+        // 시도마다 응답 타임아웃 + 백오프 여유
+        return responseTimeout.plusSeconds(1).multipliedBy(maxRetries + 1L);
     }
 }
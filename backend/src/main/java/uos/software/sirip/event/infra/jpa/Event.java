@@ -37,6 +37,9 @@ public class Event {
 
     private int remainingCoupons;
 
+    // Redis 재고 분할 수 (1 이하이면 단일 키)
+    private int stockStripes;
+
     private LocalDateTime startAt;
     private LocalDateTime endAt;
 
@@ -54,6 +57,16 @@ public class Event {
     private Double brandScore;      // brand_score (1~5)
     // weekday, date_gap, target_participants → 계산 또는 입력값이므로 저장하지 않음
 
+    // 종료 후 Redis 신청 집합을 MySQL 로 보관한 시각 (null 이면 아직 진행/대기 중)
+    private LocalDateTime archivedAt;
+
+    // 쿠폰을 생성 시점에 미리 만들어 풀에서 배정하는 이벤트인지
+    private boolean preMinted;
+
+    // 노쇼 정산 진행 위치(마지막으로 처리한 쿠폰 id)와 완료 시각
+    private long noShowCursor;
+    private LocalDateTime noShowSettledAt;
+
     public Event(
             String title,
             String description,
@@ -67,7 +80,8 @@ public class Event {
             String organizerType,
             String targetMajor,
             String targetGrade,
-            Double brandScore
+            Double brandScore,
+            int stockStripes
     ) {
         this.title = title;
         this.description = description;
@@ -83,12 +97,25 @@ public class Event {
         this.targetMajor = targetMajor;
         this.targetGrade = targetGrade;
         this.brandScore = brandScore;
+        this.stockStripes = stockStripes;
+    }
+
+    public void markPreMinted() {
+        this.preMinted = true;
     }
 
     public void changeRewardDescription(String rewardDescription) {
         this.rewardDescription = rewardDescription;
     }
 
+    /**
+     * 발급량 변경. remainingDelta 는 실제로 재고에 반영된 변화량
+     */
+    public void changeCapacity(int totalCoupons, int remainingDelta) {
+        this.totalCoupons = totalCoupons;
+        this.remainingCoupons = Math.max(remainingCoupons + remainingDelta, 0);
+    }
+
     public void changeEventDate(LocalDateTime startAt, LocalDateTime endAt) {
         this.startAt = startAt;
         this.endAt = endAt;
@@ -98,6 +125,10 @@ public class Event {
         return startAt.isBefore(now) || endAt.isAfter(now);
     }
 
+    public int stripeCount() {
+        return Math.max(stockStripes, 1);
+    }
+
     public void decrementRemaining() {
         remainingCoupons -= 1;
     }
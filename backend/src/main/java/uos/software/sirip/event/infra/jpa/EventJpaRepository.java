@@ -1,6 +1,43 @@
 package uos.software.sirip.event.infra.jpa;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface EventJpaRepository extends JpaRepository<Event, Long> {
+
+    List<Event> findByArchivedAtIsNullOrNoShowSettledAtIsNull();
+
+    /**
+     * 발급량 변경처럼 읽은 값으로 다시 쓰는 수정은 행을 잠가 동시 수정이 서로 덮어쓰지 않게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id = :eventId")
+    Optional<Event> findByIdForUpdate(@Param("eventId") Long eventId);
+
+    List<Event> findByArchivedAtIsNullAndStockStripesGreaterThan(int stockStripes);
+
+    @Query("select e.account.accountId from Event e where e.id = :eventId")
+    Optional<Long> findOwnerAccountId(@Param("eventId") Long eventId);
+
+    /**
+     * 일괄 리워드 반영: 추천 호출 전에 읽은 엔티티를 다시 불러오지 않고 id 로 바로 갱신한다.
+     */
+    @Modifying
+    @Query("update Event e set e.rewardDescription = :rewardDescription where e.id = :eventId")
+    int updateRewardDescription(@Param("eventId") Long eventId,
+        @Param("rewardDescription") String rewardDescription);
+
+    /**
+     * 보관 처리 선점: 여러 노드가 동시에 종료 처리해도 한 번만 성공한다.
+     */
+    @Modifying
+    @Query("update Event e set e.archivedAt = :archivedAt where e.id = :eventId and e.archivedAt is null")
+    int markArchived(@Param("eventId") Long eventId, @Param("archivedAt") LocalDateTime archivedAt);
 }
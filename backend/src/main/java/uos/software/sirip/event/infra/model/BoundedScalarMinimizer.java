@@ -0,0 +1,122 @@
+package uos.software.sirip.event.infra.model;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * scipy.optimize.minimize_scalar(method="bounded") (Brent 의 fminbound) 이식.
+ * Python 과 같은 순서로 함수를 평가하므로 동일한 모델이면 동일한 해를 얻는다.
+ */
+final class BoundedScalarMinimizer {
+
+    static final double DEFAULT_XATOL = 1e-5;
+    static final int DEFAULT_MAX_ITER = 500;
+
+    private static final double SQRT_EPS = Math.sqrt(2.2e-16);
+    private static final double GOLDEN_MEAN = 0.5 * (3.0 - Math.sqrt(5.0));
+
+    private BoundedScalarMinimizer() {
+    }
+
+    static double minimize(DoubleUnaryOperator func, double lower, double upper) {
+        return minimize(func, lower, upper, DEFAULT_XATOL, DEFAULT_MAX_ITER);
+    }
+
+    static double minimize(DoubleUnaryOperator func, double lower, double upper,
+        double xatol, int maxIter) {
+        double a = lower;
+        double b = upper;
+        double fulc = a + GOLDEN_MEAN * (b - a);
+        double nfc = fulc;
+        double xf = fulc;
+        double rat = 0.0;
+        double e = 0.0;
+        double x = xf;
+        double fx = func.applyAsDouble(x);
+        int num = 1;
+
+        double ffulc = fx;
+        double fnfc = fx;
+        double xm = 0.5 * (a + b);
+        double tol1 = SQRT_EPS * Math.abs(xf) + xatol / 3.0;
+        double tol2 = 2.0 * tol1;
+
+        while (Math.abs(xf - xm) > (tol2 - 0.5 * (b - a))) {
+            boolean golden = true;
+
+            // 포물선 보간 가능 여부 확인
+            if (Math.abs(e) > tol1) {
+                golden = false;
+                double r = (xf - nfc) * (fx - ffulc);
+                double q = (xf - fulc) * (fx - fnfc);
+                double p = (xf - fulc) * q - (xf - nfc) * r;
+                q = 2.0 * (q - r);
+                if (q > 0.0) {
+                    p = -p;
+                }
+                q = Math.abs(q);
+                r = e;
+                e = rat;
+
+                if (Math.abs(p) < Math.abs(0.5 * q * r) && p > q * (a - xf) && p < q * (b - xf)) {
+                    rat = (p + 0.0) / q;
+                    x = xf + rat;
+
+                    if ((x - a) < tol2 || (b - x) < tol2) {
+                        double si = Math.signum(xm - xf) + ((xm - xf) == 0 ? 1 : 0);
+                        rat = tol1 * si;
+                    }
+                } else {
+                    golden = true;
+                }
+            }
+
+            if (golden) {
+                e = xf >= xm ? a - xf : b - xf;
+                rat = GOLDEN_MEAN * e;
+            }
+
+            double si = Math.signum(rat) + (rat == 0 ? 1 : 0);
+            x = xf + si * Math.max(Math.abs(rat), tol1);
+            double fu = func.applyAsDouble(x);
+            num++;
+
+            if (fu <= fx) {
+                if (x >= xf) {
+                    a = xf;
+                } else {
+                    b = xf;
+                }
+                fulc = nfc;
+                ffulc = fnfc;
+                nfc = xf;
+                fnfc = fx;
+                xf = x;
+                fx = fu;
+            } else {
+                if (x < xf) {
+                    a = x;
+                } else {
+                    b = x;
+                }
+                if (fu <= fnfc || nfc == xf) {
+                    fulc = nfc;
+                    ffulc = fnfc;
+                    nfc = x;
+                    fnfc = fu;
+                } else if (fu <= ffulc || fulc == xf || fulc == nfc) {
+                    fulc = x;
+                    ffulc = fu;
+                }
+            }
+
+            xm = 0.5 * (a + b);
+            tol1 = SQRT_EPS * Math.abs(xf) + xatol / 3.0;
+            tol2 = 2.0 * tol1;
+
+            if (num >= maxIter) {
+                break;
+            }
+        }
+        return xf;
+    }
+}
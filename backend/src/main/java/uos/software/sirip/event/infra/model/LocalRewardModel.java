@@ -0,0 +1,92 @@
+package uos.software.sirip.event.infra.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uos.software.sirip.event.infra.external.OptimizeRequest;
+
+/**
+ * ai_agent/export_model.py 로 내보낸 모델 아티팩트를 읽어 JVM 안에서 추론한다.
+ * 아티팩트에 포함된 평가 데이터(event_logs_eval_100.csv) 예측값과 결과가 다르면 사용하지 않는다.
+ */
+@Slf4j
+@Component
+public class LocalRewardModel {
+
+    private static final double PREDICTION_TOLERANCE = 1e-6;
+
+    private final ObjectMapper objectMapper;
+    private final String artifactPath;
+
+    private volatile RewardModel model;
+
+    public LocalRewardModel(
+        ObjectMapper objectMapper,
+        @Value("${reward-model.artifact-path}") String artifactPath) {
+        this.objectMapper = objectMapper;
+        this.artifactPath = artifactPath;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (artifactPath == null || artifactPath.isBlank()) {
+            log.info("Reward model artifact not configured, using reward-api only");
+            return;
+        }
+
+        try {
+            JsonNode artifact = objectMapper.readTree(Files.readAllBytes(Path.of(artifactPath)));
+            RewardModel candidate = RewardModel.from(artifact);
+            if (validate(candidate, artifact.path("validation"))) {
+                this.model = candidate;
+                log.info("Reward model loaded from {}", artifactPath);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to load reward model artifact {}", artifactPath, e);
+        }
+    }
+
+    public Optional<RewardModel> current() {
+        return Optional.ofNullable(model);
+    }
+
+    private boolean validate(RewardModel candidate, JsonNode rows) throws IOException {
+        if (rows.isEmpty()) {
+            log.warn("Reward model artifact has no validation rows, refusing to load");
+            return false;
+        }
+
+        double maxError = 0.0;
+        int rewardMismatches = 0;
+        for (JsonNode row : rows) {
+            OptimizeRequest features = objectMapper.treeToValue(row.get("features"),
+                OptimizeRequest.class);
+
+            double expected = row.get("predicted_participants").asDouble();
+            double actual = candidate.predictParticipants(features, row.get("reward_amount").asDouble());
+            maxError = Math.max(maxError, Math.abs(actual - expected) / Math.max(1.0, Math.abs(expected)));
+
+            double recommended = candidate.findBestReward(features).reward();
+            if (Math.abs(recommended - row.get("recommended_reward").asDouble()) >= 1.0) {
+                rewardMismatches++;
+            }
+        }
+
+        if (maxError > PREDICTION_TOLERANCE) {
+            log.error("Reward model validation failed: max relative error {}", maxError);
+            return false;
+        }
+        if (rewardMismatches > 0) {
+            log.warn("Reward model recommendations differ from Python for {} of {} rows",
+                rewardMismatches, rows.size());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,189 @@
+package uos.software.sirip.event.infra.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import uos.software.sirip.event.infra.external.OptimizeRequest;
+
+/**
+ * reward_optimizer.RewardMLModel 의 JVM 구현.
+ * OneHotEncoder(handle_unknown="ignore") + StandardScaler + LightGBM 트리를
+ * 그대로 재현하고, find_best_reward 의 손실 함수와 탐색 범위도 동일하게 사용한다.
+ */
+public class RewardModel {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final List<String> CATEGORICAL_COLUMNS =
+        List.of("event_type", "organizer_type", "target_major", "target_grade", "weekday");
+    private static final List<String> NUMERIC_COLUMNS =
+        List.of("brand_score", "date_gap", "reward_amount", "reward_effective");
+
+    private final List<Map<String, Integer>> categoryIndexes;
+    private final int[] categoryOffsets;
+    private final int numericOffset;
+    private final double[] scalerMean;
+    private final double[] scalerScale;
+    private final double timeDecayLambda;
+    private final double rewardMin;
+    private final double rewardMax;
+    private final double alpha;
+    private final double beta;
+    private final TreeEnsemble trees;
+
+    private RewardModel(
+        List<Map<String, Integer>> categoryIndexes,
+        int[] categoryOffsets,
+        int numericOffset,
+        double[] scalerMean,
+        double[] scalerScale,
+        double timeDecayLambda,
+        double rewardMin,
+        double rewardMax,
+        double alpha,
+        double beta,
+        TreeEnsemble trees
+    ) {
+        this.categoryIndexes = categoryIndexes;
+        this.categoryOffsets = categoryOffsets;
+        this.numericOffset = numericOffset;
+        this.scalerMean = scalerMean;
+        this.scalerScale = scalerScale;
+        this.timeDecayLambda = timeDecayLambda;
+        this.rewardMin = rewardMin;
+        this.rewardMax = rewardMax;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.trees = trees;
+    }
+
+    public static RewardModel from(JsonNode artifact) {
+        int version = artifact.path("format_version").asInt(-1);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported model format version: " + version);
+        }
+        requireColumns(artifact.get("categorical_columns"), CATEGORICAL_COLUMNS);
+        requireColumns(artifact.get("numeric_columns"), NUMERIC_COLUMNS);
+
+        JsonNode categories = artifact.get("categories");
+        List<Map<String, Integer>> categoryIndexes = new ArrayList<>();
+        int[] categoryOffsets = new int[CATEGORICAL_COLUMNS.size()];
+        int offset = 0;
+        for (int column = 0; column < CATEGORICAL_COLUMNS.size(); column++) {
+            JsonNode values = categories.get(column);
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                index.put(values.get(i).asText(), i);
+            }
+            categoryIndexes.add(index);
+            categoryOffsets[column] = offset;
+            offset += values.size();
+        }
+
+        return new RewardModel(
+            categoryIndexes,
+            categoryOffsets,
+            offset,
+            toArray(artifact.get("scaler_mean"), NUMERIC_COLUMNS.size()),
+            toArray(artifact.get("scaler_scale"), NUMERIC_COLUMNS.size()),
+            artifact.get("time_decay_lambda").asDouble(),
+            artifact.get("reward_min").asDouble(),
+            artifact.get("reward_max").asDouble(),
+            artifact.get("alpha").asDouble(),
+            artifact.get("beta").asDouble(),
+            TreeEnsemble.from(artifact.get("trees"))
+        );
+    }
+
+    /**
+     * ✅ predict_participants: 음수 예측은 0 으로 클리핑
+     */
+    public double predictParticipants(OptimizeRequest features, double reward) {
+        return predict(encodeBase(features), features.getDateGap(), reward);
+    }
+
+    /**
+     * ✅ find_best_reward: [max(0, reward_min), reward_max * 1.2] 범위에서 손실 최소화
+     */
+    public RewardRecommendation findBestReward(OptimizeRequest features) {
+        double low = Math.max(0.0, rewardMin);
+        double high = rewardMax * 1.2;
+        double rewardScale = high;
+        double target = features.getTargetParticipants();
+
+        double[] base = encodeBase(features);
+        int dateGap = features.getDateGap();
+
+        double bestReward = BoundedScalarMinimizer.minimize(
+            reward -> loss(predict(base, dateGap, reward), reward, target, rewardScale),
+            low, high);
+        return new RewardRecommendation(bestReward, predict(base, dateGap, bestReward));
+    }
+
+    private double loss(double expected, double reward, double target, double rewardScale) {
+        double targetSafe = Math.max(target, 1.0);
+        double relError = Math.abs(expected - target) / targetSafe;
+        double denom = Math.max(rewardScale * targetSafe, 1e-6);
+        double relCost = (expected * reward) / denom;
+        return alpha * relError + beta * relCost;
+    }
+
+    private double predict(double[] base, int dateGap, double reward) {
+        double[] x = base.clone();
+        double rewardEffective = reward * Math.exp(-timeDecayLambda * dateGap);
+        x[numericOffset + 2] = scale(2, reward);
+        x[numericOffset + 3] = scale(3, rewardEffective);
+        return Math.max(trees.predict(x), 0.0);
+    }
+
+    /**
+     * 리워드와 무관한 특성(원-핫, brand_score, date_gap)을 미리 인코딩한다.
+     */
+    private double[] encodeBase(OptimizeRequest features) {
+        double[] x = new double[numericOffset + NUMERIC_COLUMNS.size()];
+        String[] values = {
+            features.getEventType(),
+            features.getOrganizerType(),
+            features.getTargetMajor(),
+            features.getTargetGrade(),
+            features.getWeekday()
+        };
+        for (int column = 0; column < values.length; column++) {
+            Integer index = categoryIndexes.get(column).get(values[column]);
+            if (index != null) {
+                x[categoryOffsets[column] + index] = 1.0;
+            }
+        }
+        x[numericOffset] = scale(0, features.getBrandScore());
+        x[numericOffset + 1] = scale(1, features.getDateGap());
+        return x;
+    }
+
+    private double scale(int column, double value) {
+        return (value - scalerMean[column]) / scalerScale[column];
+    }
+
+    private static void requireColumns(JsonNode actual, List<String> expected) {
+        if (actual == null || actual.size() != expected.size()) {
+            throw new IllegalArgumentException("Unexpected model columns: " + actual);
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (!expected.get(i).equals(actual.get(i).asText())) {
+                throw new IllegalArgumentException("Unexpected model columns: " + actual);
+            }
+        }
+    }
+
+    private static double[] toArray(JsonNode node, int expectedSize) {
+        if (node == null || node.size() != expectedSize) {
+            throw new IllegalArgumentException("Unexpected scaler parameters: " + node);
+        }
+        double[] values = new double[expectedSize];
+        for (int i = 0; i < expectedSize; i++) {
+            values[i] = node.get(i).asDouble();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,8 @@
+package uos.software.sirip.event.infra.model;
+
+public record RewardRecommendation(
+    double reward,
+    double expectedParticipants
+) {
+
+}
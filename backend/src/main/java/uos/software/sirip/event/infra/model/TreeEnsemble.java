@@ -0,0 +1,154 @@
+package uos.software.sirip.event.infra.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LightGBM dump_model() 의 tree_info 를 배열 기반 트리로 변환해 평가한다.
+ * 회귀(L2) 모델 기준: 예측값 = 모든 트리 리프 값의 합 (shrinkage, 초기값 포함).
+ */
+final class TreeEnsemble {
+
+    private static final double ZERO_THRESHOLD = 1e-35;
+
+    private static final byte MISSING_NONE = 0;
+    private static final byte MISSING_ZERO = 1;
+    private static final byte MISSING_NAN = 2;
+
+    private final Tree[] trees;
+
+    private TreeEnsemble(Tree[] trees) {
+        this.trees = trees;
+    }
+
+    static TreeEnsemble from(JsonNode treeInfo) {
+        Tree[] trees = new Tree[treeInfo.size()];
+        for (int i = 0; i < trees.length; i++) {
+            trees[i] = Tree.from(treeInfo.get(i).get("tree_structure"));
+        }
+        return new TreeEnsemble(trees);
+    }
+
+    double predict(double[] features) {
+        double sum = 0.0;
+        for (Tree tree : trees) {
+            sum += tree.predict(features);
+        }
+        return sum;
+    }
+
+    int size() {
+        return trees.length;
+    }
+
+    /**
+     * 내부 노드는 0 이상의 인덱스, 리프는 ~leafIndex (음수) 로 표현한다.
+     */
+    private static final class Tree {
+
+        private final int[] splitFeature;
+        private final double[] threshold;
+        private final boolean[] defaultLeft;
+        private final byte[] missingType;
+        private final int[] leftChild;
+        private final int[] rightChild;
+        private final double[] leafValue;
+
+        private Tree(Builder builder) {
+            int nodes = builder.splitFeature.size();
+            this.splitFeature = new int[nodes];
+            this.threshold = new double[nodes];
+            this.defaultLeft = new boolean[nodes];
+            this.missingType = new byte[nodes];
+            this.leftChild = new int[nodes];
+            this.rightChild = new int[nodes];
+            for (int i = 0; i < nodes; i++) {
+                splitFeature[i] = builder.splitFeature.get(i);
+                threshold[i] = builder.threshold.get(i);
+                defaultLeft[i] = builder.defaultLeft.get(i);
+                missingType[i] = builder.missingType.get(i);
+                leftChild[i] = builder.leftChild.get(i);
+                rightChild[i] = builder.rightChild.get(i);
+            }
+            this.leafValue = builder.leafValue.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+
+        static Tree from(JsonNode root) {
+            Builder builder = new Builder();
+            builder.add(root);
+            return new Tree(builder);
+        }
+
+        double predict(double[] features) {
+            if (splitFeature.length == 0) {
+                return leafValue[0];
+            }
+
+            int node = 0;
+            while (node >= 0) {
+                double value = features[splitFeature[node]];
+                if (Double.isNaN(value) && missingType[node] != MISSING_NAN) {
+                    value = 0.0;
+                }
+
+                boolean goLeft;
+                if ((missingType[node] == MISSING_ZERO && isZero(value))
+                    || (missingType[node] == MISSING_NAN && Double.isNaN(value))) {
+                    goLeft = defaultLeft[node];
+                } else {
+                    goLeft = value <= threshold[node];
+                }
+                node = goLeft ? leftChild[node] : rightChild[node];
+            }
+            return leafValue[~node];
+        }
+
+        private static boolean isZero(double value) {
+            return value >= -ZERO_THRESHOLD && value <= ZERO_THRESHOLD;
+        }
+    }
+
+    private static final class Builder {
+
+        private final List<Integer> splitFeature = new ArrayList<>();
+        private final List<Double> threshold = new ArrayList<>();
+        private final List<Boolean> defaultLeft = new ArrayList<>();
+        private final List<Byte> missingType = new ArrayList<>();
+        private final List<Integer> leftChild = new ArrayList<>();
+        private final List<Integer> rightChild = new ArrayList<>();
+        private final List<Double> leafValue = new ArrayList<>();
+
+        private int add(JsonNode node) {
+            if (!node.has("split_feature")) {
+                leafValue.add(node.get("leaf_value").asDouble());
+                return ~(leafValue.size() - 1);
+            }
+
+            String decisionType = node.path("decision_type").asText("<=");
+            if (!"<=".equals(decisionType)) {
+                throw new IllegalArgumentException("Unsupported decision type: " + decisionType);
+            }
+
+            int index = splitFeature.size();
+            splitFeature.add(node.get("split_feature").asInt());
+            threshold.add(node.get("threshold").asDouble());
+            defaultLeft.add(node.path("default_left").asBoolean(true));
+            missingType.add(parseMissingType(node.path("missing_type").asText("None")));
+            leftChild.add(0);
+            rightChild.add(0);
+
+            leftChild.set(index, add(node.get("left_child")));
+            rightChild.set(index, add(node.get("right_child")));
+            return index;
+        }
+
+        private static byte parseMissingType(String missingType) {
+            return switch (missingType) {
+                case "Zero" -> MISSING_ZERO;
+                case "NaN" -> MISSING_NAN;
+                default -> MISSING_NONE;
+            };
+        }
+    }
+}
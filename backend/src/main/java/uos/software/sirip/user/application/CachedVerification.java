@@ -0,0 +1,15 @@
+package uos.software.sirip.user.application;
+
+public record CachedVerification(
+    boolean verified,
+    UserData userData
+) {
+
+    public static CachedVerification verified(UserData userData) {
+        return new CachedVerification(true, userData);
+    }
+
+    public static CachedVerification rejected() {
+        return new CachedVerification(false, null);
+    }
+}
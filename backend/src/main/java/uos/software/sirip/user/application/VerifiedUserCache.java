@@ -0,0 +1,12 @@
+package uos.software.sirip.user.application;
+
+import java.util.Optional;
+
+public interface VerifiedUserCache {
+
+    Optional<CachedVerification> find(String email, String password);
+
+    void putVerified(String email, String password, UserData userData);
+
+    void putRejected(String email, String password);
+}
@@ -27,6 +27,7 @@ public class Account {
 
     private String email;
     private String password;
+    // 레거시 영구 플래그 (패널티 판정은 penalties 테이블 + Redis, PenaltyService)
     private Boolean penalty;
 
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -38,8 +39,4 @@ public class Account {
         this.password = password;
         this.penalty = false;
     }
-
-    public void registerPenalty() {
-        this.penalty = true;
-    }
 }
@@ -1,23 +1,28 @@
 package uos.software.sirip.user.domain;
 
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import uos.software.sirip.user.application.CachedVerification;
 import uos.software.sirip.user.application.UserData;
 import uos.software.sirip.user.application.ValidUserService;
+import uos.software.sirip.user.application.VerifiedUserCache;
 import uos.software.sirip.user.dto.UserDto;
+import uos.software.sirip.user.exception.PortalLoginFailedException;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final ValidUserService validUserService;
+    private final VerifiedUserCache verifiedUserCache;
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
 
     public String createUser(UserDto userDto) {
-        UserData userData = validUserService.isValid(userDto.email(), userDto.password());
+        UserData userData = verify(userDto.email(), userDto.password());
 
         Account account = new Account(Role.USER, userDto.email(), passwordEncoder.encode(userDto.password()));
         Account saved = accountRepository.save(account);
@@ -29,4 +34,26 @@ public class UserService {
         return userData.username();
     }
 
+    /**
+     * ✅ 캐시된 인증 결과를 먼저 확인하고, 없을 때만 포털에 접속
+     */
+    private UserData verify(String email, String password) {
+        Optional<CachedVerification> cached = verifiedUserCache.find(email, password);
+        if (cached.isPresent()) {
+            if (!cached.get().verified()) {
+                throw new PortalLoginFailedException(email);
+            }
+            return cached.get().userData();
+        }
+
+        try {
+            UserData userData = validUserService.isValid(email, password);
+            verifiedUserCache.putVerified(email, password, userData);
+            return userData;
+        } catch (PortalLoginFailedException e) {
+            verifiedUserCache.putRejected(email, password);
+            throw e;
+        }
+    }
+
 }
@@ -0,0 +1,12 @@
+package uos.software.sirip.user.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class PortalLoginFailedException extends RuntimeException {
+
+    public PortalLoginFailedException(String email) {
+        super("Portal login failed for " + email);
+    }
+}
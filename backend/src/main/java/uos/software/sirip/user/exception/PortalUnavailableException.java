@@ -0,0 +1,12 @@
+package uos.software.sirip.user.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PortalUnavailableException extends RuntimeException {
+
+    public PortalUnavailableException(Throwable cause) {
+        super("Portal did not answer the login in time", cause);
+    }
+}
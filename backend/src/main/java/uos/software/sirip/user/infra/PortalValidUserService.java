@@ -3,9 +3,12 @@ package uos.software.sirip.user.infra;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.stereotype.Service;
 import uos.software.sirip.user.application.UserData;
 import uos.software.sirip.user.application.ValidUserService;
+import uos.software.sirip.user.exception.PortalLoginFailedException;
+import uos.software.sirip.user.exception.PortalUnavailableException;
 
 import com.microsoft.playwright.*;
 
@@ -13,6 +16,9 @@ import com.microsoft.playwright.*;
 public class PortalValidUserService implements ValidUserService {
 
     private static final String PORTAL_URL = "https://portal.uos.ac.kr/p/STUD/";
+    private static final String USER_NAME_SELECTOR = "li.name";
+    // 로그인 실패 시 포털이 보여주는 오류 문구 (실제 DOM에 맞게 셀렉터 수정 필요)
+    private static final String LOGIN_ERROR_SELECTOR = ".login_error, .error_msg, #errorMsg";
 
     @Override
     public UserData isValid(String email, String password) {
@@ -40,28 +46,45 @@ public class PortalValidUserService implements ValidUserService {
             Page page = context.newPage();
             page.navigate(PORTAL_URL);
 
+            // 로그인 실패는 경고창(alert)이나 오류 문구로 알려준다
+            AtomicBoolean rejected = new AtomicBoolean();
+            page.onDialog(dialog -> {
+                rejected.set(true);
+                dialog.dismiss();
+            });
+
             // 실제 DOM에 맞게 셀렉터 수정 필요
             page.fill("input[id='user_id']", email);
             page.fill("input[id='user_password']", password);
             page.click("button[title='로그인']");
 
             try {
-                page.waitForSelector("li.name",
-                    new Page.WaitForSelectorOptions().setTimeout(10000));
-
-                // 사용자 정보 추출
-                Locator nameLocator = page.locator("li.name");
-                String text = nameLocator.innerText().replaceAll("\\s+", ""); // 줄바꿈 제거
-                // 예: "석우진(2020920032)"
-
-                String username = text.replaceAll("\\(.*\\)", ""); // 괄호 제거 → 석우진
-                String studentId = text.replaceAll(".*\\((\\d+)\\).*",
-                    "$1"); // 괄호 안 숫자만 추출 → 2020920032
-
-                return new UserData(username, studentId);
+                page.waitForCondition(() -> rejected.get()
+                        || page.locator(USER_NAME_SELECTOR).count() > 0
+                        || page.locator(LOGIN_ERROR_SELECTOR).count() > 0,
+                    new Page.WaitForConditionOptions().setTimeout(10000));
+            } catch (TimeoutError e) {
+                // 성공도 실패 신호도 없이 시간만 지남 → 포털이 느리거나 장애 (자격 증명 실패로 캐시하지 않음)
+                throw new PortalUnavailableException(e);
             } catch (PlaywrightException e) {
                 throw new RuntimeException(e);
             }
+
+            if (rejected.get() || page.locator(USER_NAME_SELECTOR).count() == 0) {
+                // 포털이 로그인을 거절함 → 자격 증명 실패
+                throw new PortalLoginFailedException(email);
+            }
+
+            // 사용자 정보 추출
+            Locator nameLocator = page.locator(USER_NAME_SELECTOR);
+            String text = nameLocator.innerText().replaceAll("\\s+", ""); // 줄바꿈 제거
+            // 예: "석우진(2020920032)"
+
+            String username = text.replaceAll("\\(.*\\)", ""); // 괄호 제거 → 석우진
+            String studentId = text.replaceAll(".*\\((\\d+)\\).*",
+                "$1"); // 괄호 안 숫자만 추출 → 2020920032
+
+            return new UserData(username, studentId);
         }
     }
 }
@@ -0,0 +1,135 @@
+package uos.software.sirip.user.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import uos.software.sirip.user.application.CachedVerification;
+import uos.software.sirip.user.application.UserData;
+import uos.software.sirip.user.application.VerifiedUserCache;
+
+/**
+ * 포털 인증 결과 캐시.
+ * 키는 (email, password)의 HMAC-SHA256 값이므로 Redis 에 자격 증명이 평문으로 남지 않는다.
+ */
+@Slf4j
+@Component
+public class RedisVerifiedUserCache implements VerifiedUserCache {
+
+    private static final String KEY_PREFIX = "portal:verified:";
+    private static final String REJECTED = "REJECTED";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec saltKey;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    private final Counter hitCounter;
+    private final Counter negativeHitCounter;
+    private final Counter missCounter;
+
+    public RedisVerifiedUserCache(
+        StringRedisTemplate stringRedisTemplate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${portal.verification-cache.salt}") String salt,
+        @Value("${portal.verification-cache.ttl}") Duration ttl,
+        @Value("${portal.verification-cache.negative-ttl}") Duration negativeTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.saltKey = new SecretKeySpec(salt.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+
+        this.hitCounter = cacheCounter(meterRegistry, "hit");
+        this.negativeHitCounter = cacheCounter(meterRegistry, "negative_hit");
+        this.missCounter = cacheCounter(meterRegistry, "miss");
+    }
+
+    @Override
+    public Optional<CachedVerification> find(String email, String password) {
+        String cached;
+        try {
+            cached = stringRedisTemplate.opsForValue().get(buildKey(email, password));
+        } catch (DataAccessException e) {
+            // 캐시 장애는 포털 직접 조회로 대체
+            log.warn("Verified user cache lookup failed", e);
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        if (cached == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        if (REJECTED.equals(cached)) {
+            negativeHitCounter.increment();
+            return Optional.of(CachedVerification.rejected());
+        }
+
+        try {
+            UserData userData = objectMapper.readValue(cached, UserData.class);
+            hitCounter.increment();
+            return Optional.of(CachedVerification.verified(userData));
+        } catch (JsonProcessingException e) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void putVerified(String email, String password, UserData userData) {
+        try {
+            put(email, password, objectMapper.writeValueAsString(userData), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize verified user", e);
+        }
+    }
+
+    @Override
+    public void putRejected(String email, String password) {
+        put(email, password, REJECTED, negativeTtl);
+    }
+
+    private void put(String email, String password, String value, Duration timeout) {
+        try {
+            stringRedisTemplate.opsForValue().set(buildKey(email, password), value, timeout);
+        } catch (DataAccessException e) {
+            log.warn("Verified user cache write failed", e);
+        }
+    }
+
+    private String buildKey(String email, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(saltKey);
+            byte[] digest = mac.doFinal(
+                (email + '\0' + password).getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("portal.verification.cache")
+            .description("Portal verification cache lookups")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
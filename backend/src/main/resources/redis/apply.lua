@@ -0,0 +1,30 @@
+-- 쿠폰 신청 (중복 확인 + 재고 차감을 원자적으로 처리)
+-- KEYS[1] = 신청 기록 키 (SET 또는 비트맵), KEYS[2] = 잔여 수량 키
+-- ARGV[1] = accountId, ARGV[2] = 'set' | 'bitmap'
+-- 반환: 1 발급, 0 중복, -1 소진, -2 재고 미설정
+local remain = redis.call('GET', KEYS[2])
+if not remain then
+    return -2
+end
+
+local applied
+if ARGV[2] == 'bitmap' then
+    applied = redis.call('GETBIT', KEYS[1], ARGV[1])
+else
+    applied = redis.call('SISMEMBER', KEYS[1], ARGV[1])
+end
+if applied == 1 then
+    return 0
+end
+
+if tonumber(remain) <= 0 then
+    return -1
+end
+
+redis.call('DECR', KEYS[2])
+if ARGV[2] == 'bitmap' then
+    redis.call('SETBIT', KEYS[1], ARGV[1], 1)
+else
+    redis.call('SADD', KEYS[1], ARGV[1])
+end
+return 1
@@ -0,0 +1,22 @@
+-- 쿠폰 취소: 신청 기록 제거와 재고 반환을 원자적으로 처리
+-- 대기자가 있으면 재고를 늘리지 않고 대기자를 신청 기록에 넣어 그대로 넘긴다.
+-- KEYS[1] = 신청 기록 키, KEYS[2] = 잔여 수량 키
+-- ARGV[1] = 취소자, ARGV[2] = 'set' | 'bitmap', ARGV[3] = 대기자 ('' 이면 없음)
+-- 반환: 취소자 기록 제거 여부 (1/0)
+local removed
+if ARGV[2] == 'bitmap' then
+    removed = redis.call('SETBIT', KEYS[1], ARGV[1], 0)
+else
+    removed = redis.call('SREM', KEYS[1], ARGV[1])
+end
+
+if ARGV[3] ~= '' then
+    if ARGV[2] == 'bitmap' then
+        redis.call('SETBIT', KEYS[1], ARGV[3], 1)
+    else
+        redis.call('SADD', KEYS[1], ARGV[3])
+    end
+elseif removed == 1 and redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('INCR', KEYS[2])
+end
+return removed
@@ -0,0 +1,11 @@
+-- 패널티 종료 시각 기록 (기존보다 늦을 때만 연장, 종료 시각에 키 자동 만료)
+-- KEYS[1] = penalty:{accountId}
+-- ARGV[1] = 종료 시각 (epoch ms)
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+local endsAt = tonumber(ARGV[1])
+if endsAt <= current then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[1])
+redis.call('PEXPIREAT', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,34 @@
+-- 쿠폰 풀 신청 (중복 확인 + 미리 만든 쿠폰 id 꺼내기를 원자적으로 처리)
+-- KEYS[1] = 신청 기록 키 (SET 또는 비트맵), KEYS[2] = 잔여 수량 키, KEYS[3] = 쿠폰 풀(LIST)
+-- ARGV[1] = accountId, ARGV[2] = 'set' | 'bitmap'
+-- 반환: 쿠폰 id(> 0) 배정, 0 중복, -1 소진, -2 재고 미설정
+local remain = redis.call('GET', KEYS[2])
+if not remain then
+    return -2
+end
+
+local applied
+if ARGV[2] == 'bitmap' then
+    applied = redis.call('GETBIT', KEYS[1], ARGV[1])
+else
+    applied = redis.call('SISMEMBER', KEYS[1], ARGV[1])
+end
+if applied == 1 then
+    return 0
+end
+
+local couponId = redis.call('LPOP', KEYS[3])
+if not couponId then
+    return -1
+end
+
+-- 잔여 수량은 조회 · 통계용으로 풀 길이와 함께 줄인다
+if tonumber(remain) > 0 then
+    redis.call('DECR', KEYS[2])
+end
+if ARGV[2] == 'bitmap' then
+    redis.call('SETBIT', KEYS[1], ARGV[1], 1)
+else
+    redis.call('SADD', KEYS[1], ARGV[1])
+end
+return tonumber(couponId)
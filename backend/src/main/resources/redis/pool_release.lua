@@ -0,0 +1,17 @@
+-- 풀 신청 되돌리기: 신청 기록 제거 + 쿠폰 id 를 풀 앞에 다시 넣기 (기록이 있을 때만)
+-- KEYS[1] = 신청 기록 키, KEYS[2] = 잔여 수량 키, KEYS[3] = 쿠폰 풀(LIST)
+-- ARGV[1] = accountId, ARGV[2] = 'set' | 'bitmap', ARGV[3] = 쿠폰 id
+-- 반환: 1 반환됨, 0 기록 없음
+local removed
+if ARGV[2] == 'bitmap' then
+    removed = redis.call('SETBIT', KEYS[1], ARGV[1], 0)
+else
+    removed = redis.call('SREM', KEYS[1], ARGV[1])
+end
+if removed == 1 then
+    redis.call('LPUSH', KEYS[3], ARGV[3])
+    if redis.call('EXISTS', KEYS[2]) == 1 then
+        redis.call('INCR', KEYS[2])
+    end
+end
+return removed
@@ -0,0 +1,9 @@
+-- 토큰 쿠폰 사용 (사용 비트맵 선점 + DB 반영 대기열 적재)
+-- KEYS[1] = 사용 비트맵, KEYS[2] = DB 반영 대기열
+-- ARGV[1] = couponId, ARGV[2] = 'couponId:사용시각(epoch ms)'
+-- 반환: 1 사용 처리, 0 이미 사용/사용 불가
+if redis.call('SETBIT', KEYS[1], ARGV[1], 1) == 1 then
+    return 0
+end
+redis.call('RPUSH', KEYS[2], ARGV[2])
+return 1
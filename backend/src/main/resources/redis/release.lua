@@ -0,0 +1,14 @@
+-- 신청 기록 제거 + 재고 반환 (기록이 있을 때만 반환)
+-- KEYS[1] = 신청 기록 키, KEYS[2] = 잔여 수량 키
+-- ARGV[1] = accountId, ARGV[2] = 'set' | 'bitmap'
+-- 반환: 1 반환됨, 0 기록 없음
+local removed
+if ARGV[2] == 'bitmap' then
+    removed = redis.call('SETBIT', KEYS[1], ARGV[1], 0)
+else
+    removed = redis.call('SREM', KEYS[1], ARGV[1])
+end
+if removed == 1 then
+    redis.call('INCR', KEYS[2])
+end
+return removed
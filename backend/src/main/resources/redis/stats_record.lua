@@ -0,0 +1,60 @@
+-- 이벤트 통계 누적 (릴레이 배치 하나에서 이벤트별로 한 번 호출)
+-- KEYS[1] = 누적 카운터 해시, KEYS[2] = 분 단위 발급 수 해시, KEYS[3] = 반영한 outboxId 집합
+-- ARGV[1] = 분 단위 해시 보관 시간(초), ARGV[2] = outboxId 집합 보관 시간(초)
+-- ARGV[3..] = (outboxId, 변경 종류, 발생 시각 ms) 세 개씩
+-- 다시 전달된 변경은 outboxId 집합에 이미 있으므로 건너뛴다. 반영한 건수를 돌려준다.
+local fields = {
+    ISSUED = 'issued', PROMOTED = 'promoted', REDEEMED = 'redeemed',
+    NO_SHOW = 'no_show', CANCELLED = 'cancelled'
+}
+local counts = {}
+local minutes = {}
+local first, last
+local applied = 0
+
+for i = 3, #ARGV, 3 do
+    if redis.call('SADD', KEYS[3], ARGV[i]) == 1 then
+        applied = applied + 1
+        local changeType = ARGV[i + 1]
+        local field = fields[changeType]
+        counts[field] = (counts[field] or 0) + 1
+        if changeType == 'ISSUED' or changeType == 'PROMOTED' then
+            local at = tonumber(ARGV[i + 2])
+            local minute = math.floor(at / 60000)
+            minutes[minute] = (minutes[minute] or 0) + 1
+            if changeType == 'ISSUED' then
+                if first == nil or at < first then first = at end
+                if last == nil or at > last then last = at end
+            end
+        end
+    end
+end
+if #ARGV > 2 then
+    redis.call('EXPIRE', KEYS[3], ARGV[2])
+end
+if applied == 0 then
+    return 0
+end
+
+for field, delta in pairs(counts) do
+    redis.call('HINCRBY', KEYS[1], field, delta)
+end
+
+if first ~= nil then
+    local storedFirst = tonumber(redis.call('HGET', KEYS[1], 'first_issued_at') or '0')
+    if storedFirst == 0 or first < storedFirst then
+        redis.call('HSET', KEYS[1], 'first_issued_at', string.format('%d', first))
+    end
+    local storedLast = tonumber(redis.call('HGET', KEYS[1], 'last_issued_at') or '0')
+    if last > storedLast then
+        redis.call('HSET', KEYS[1], 'last_issued_at', string.format('%d', last))
+    end
+end
+
+if next(minutes) ~= nil then
+    for minute, count in pairs(minutes) do
+        redis.call('HINCRBY', KEYS[2], string.format('%d', minute), count)
+    end
+    redis.call('EXPIRE', KEYS[2], ARGV[1])
+end
+return applied
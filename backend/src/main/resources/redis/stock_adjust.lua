@@ -0,0 +1,17 @@
+-- 잔여 수량을 delta 만큼 조정 (0 미만으로 내려가지 않도록 감소분을 잘라낸다)
+-- KEYS[1] = 잔여 수량 키 (단일 또는 분할 한 칸)
+-- ARGV[1] = delta
+-- 반환: 실제 적용한 delta, 키가 없으면 nil
+local remain = redis.call('GET', KEYS[1])
+if not remain then
+    return false
+end
+local delta = tonumber(ARGV[1])
+remain = tonumber(remain)
+if delta < 0 and -delta > remain then
+    delta = -remain
+end
+if delta ~= 0 then
+    redis.call('INCRBY', KEYS[1], delta)
+end
+return delta
@@ -0,0 +1,18 @@
+-- 분할 재고 한 칸에서 1개 빌리기 (0 미만으로 내려가지 않음, 빌려 간 계정을 기록)
+-- KEYS[1] = 칸 잔여 수량 키, KEYS[2] = 칸에서 빌려 간 계정 SET
+-- ARGV[1] = accountId
+-- 반환: 차감 후 잔여 수량(>= 0), -1 소진, -2 재고 미설정
+local remain = redis.call('GET', KEYS[1])
+if not remain then
+    return -2
+end
+if tonumber(remain) <= 0 then
+    return -1
+end
+
+redis.call('SADD', KEYS[2], ARGV[1])
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl > 0 then
+    redis.call('PEXPIRE', KEYS[2], ttl)
+end
+return redis.call('DECR', KEYS[1])
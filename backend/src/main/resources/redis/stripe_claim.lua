@@ -0,0 +1,36 @@
+-- 분할 재고 신청: 자기 칸에서 중복 확인 + 재고 차감을 원자적으로 처리
+-- 자기 칸이 비었으면 '빌리는 중' 기록을 남기고 -1 을 반환한다 (다른 칸에서 빌린 뒤 stripe_settle 로 확정)
+-- KEYS[1] = 칸 신청 기록 키, KEYS[2] = 칸 잔여 수량 키, KEYS[3] = 칸 빌리는 중 ZSET
+-- ARGV[1] = 신청 기록 멤버, ARGV[2] = 'set' | 'bitmap', ARGV[3] = accountId, ARGV[4] = 현재 시각(ms)
+-- 반환: 1 발급, 0 중복(이미 신청 또는 빌리는 중), -1 자기 칸 소진(빌리는 중 기록함), -2 재고 미설정
+local remain = redis.call('GET', KEYS[2])
+if not remain then
+    return -2
+end
+
+local applied
+if ARGV[2] == 'bitmap' then
+    applied = redis.call('GETBIT', KEYS[1], ARGV[1])
+else
+    applied = redis.call('SISMEMBER', KEYS[1], ARGV[1])
+end
+if applied == 1 or redis.call('ZSCORE', KEYS[3], ARGV[3]) then
+    return 0
+end
+
+if tonumber(remain) > 0 then
+    redis.call('DECR', KEYS[2])
+    if ARGV[2] == 'bitmap' then
+        redis.call('SETBIT', KEYS[1], ARGV[1], 1)
+    else
+        redis.call('SADD', KEYS[1], ARGV[1])
+    end
+    return 1
+end
+
+redis.call('ZADD', KEYS[3], ARGV[4], ARGV[3])
+local ttl = redis.call('PTTL', KEYS[2])
+if ttl > 0 then
+    redis.call('PEXPIRE', KEYS[3], ttl)
+end
+return -1
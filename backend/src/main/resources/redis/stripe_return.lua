@@ -0,0 +1,11 @@
+-- 빌려 간 재고 1개 되돌리기 (빌린 기록이 있을 때만, 만료된 키는 새로 만들지 않음)
+-- KEYS[1] = 칸 잔여 수량 키, KEYS[2] = 칸에서 빌려 간 계정 SET
+-- ARGV[1] = accountId
+-- 반환: 1 되돌림, 0 기록 없음
+if redis.call('SREM', KEYS[2], ARGV[1]) == 0 then
+    return 0
+end
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('INCR', KEYS[1])
+end
+return 1
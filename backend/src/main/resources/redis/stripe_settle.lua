@@ -0,0 +1,13 @@
+-- 빌리기 확정: 빌리는 중 기록을 지우고 자기 칸 신청 기록에 넣는다
+-- KEYS[1] = 칸 신청 기록 키, KEYS[2] = 칸 빌리는 중 ZSET
+-- ARGV[1] = 신청 기록 멤버, ARGV[2] = 'set' | 'bitmap', ARGV[3] = accountId
+-- 반환: 1 확정, 0 빌리는 중 기록 없음 (복구 작업이 먼저 정리함)
+if redis.call('ZREM', KEYS[2], ARGV[3]) == 0 then
+    return 0
+end
+if ARGV[2] == 'bitmap' then
+    redis.call('SETBIT', KEYS[1], ARGV[1], 1)
+else
+    redis.call('SADD', KEYS[1], ARGV[1])
+end
+return 1
@@ -0,0 +1,29 @@
+-- 토큰 버킷 (조회 · 보충 · 차감을 한 번에 처리, 시각은 Redis 서버 기준)
+-- KEYS[1] = 버킷 해시 키 (tokens, ts)
+-- ARGV[1] = 버킷 크기, ARGV[2] = 초당 보충 토큰 수
+-- 반환: {허용 여부(1/0), 남은 토큰, 재시도까지 ms, 가득 찰 때까지 ms}
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2]) / 1000
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or capacity
+local ts = tonumber(bucket[2]) or now
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+local allowed = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+    allowed = 1
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate))
+
+local retryAfter = 0
+if allowed == 0 then
+    retryAfter = math.ceil((1 - tokens) / rate)
+end
+return {allowed, math.floor(tokens), retryAfter, math.ceil((capacity - tokens) / rate)}
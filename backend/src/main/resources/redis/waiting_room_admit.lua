@@ -0,0 +1,39 @@
+-- 대기실 입장 허용 번호를 시간 경과만큼 올리고 계정 번호표와 함께 반환
+-- 여러 노드가 동시에 불러도 Redis 시각 기준으로 계산하므로 허용 속도는 노드 수와 무관하다.
+-- KEYS[1] = 대기실 상태 해시(opens_at, admitted, last_ms), KEYS[2] = 발급 순번, KEYS[3] = 번호표 해시
+-- ARGV[1] = 초당 허용 인원, ARGV[2] = accountId
+-- 반환: {번호표 (없으면 -1), 허용된 마지막 번호, 오픈까지 남은 ms}
+local now = redis.call('TIME')
+local nowMs = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+local rate = tonumber(ARGV[1])
+
+local ticket = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '-1')
+local opensAt = tonumber(redis.call('HGET', KEYS[1], 'opens_at') or '0')
+local admitted = tonumber(redis.call('HGET', KEYS[1], 'admitted') or '0')
+if nowMs < opensAt then
+    return {ticket, admitted, opensAt - nowMs}
+end
+
+local issued = tonumber(redis.call('GET', KEYS[2]) or '0')
+local last = tonumber(redis.call('HGET', KEYS[1], 'last_ms') or '0')
+if last < opensAt then
+    last = opensAt
+end
+if last == 0 then
+    last = nowMs
+end
+
+local credit = math.floor((nowMs - last) * rate / 1000)
+if credit > 0 then
+    admitted = math.min(issued, admitted + credit)
+    if admitted >= issued then
+        -- 대기자가 없을 때 쌓인 시간은 다음 몰림에 한꺼번에 쓰지 않는다
+        last = nowMs
+    else
+        last = last + math.floor(credit * 1000 / rate)
+    end
+    redis.call('HSET', KEYS[1], 'admitted', admitted, 'last_ms', last)
+elseif last ~= tonumber(redis.call('HGET', KEYS[1], 'last_ms') or '0') then
+    redis.call('HSET', KEYS[1], 'last_ms', last)
+end
+return {ticket, admitted, 0}
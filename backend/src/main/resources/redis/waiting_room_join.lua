@@ -0,0 +1,19 @@
+-- 대기실 입장: 계정당 번호표 하나 (이미 있으면 그대로 반환)
+-- KEYS[1] = 번호표 해시(accountId → 번호), KEYS[2] = 발급 순번, KEYS[3] = 대기실 상태 해시
+-- ARGV[1] = accountId, ARGV[2] = 상태 키가 없을 때 쓸 보관 시간(ms)
+local ticket = redis.call('HGET', KEYS[1], ARGV[1])
+if ticket then
+    return tonumber(ticket)
+end
+
+ticket = redis.call('INCR', KEYS[2])
+redis.call('HSET', KEYS[1], ARGV[1], ticket)
+
+-- 이벤트 생성 때 정한 상태 키 만료 시각을 따른다
+local ttl = redis.call('PTTL', KEYS[3])
+if ttl <= 0 then
+    ttl = tonumber(ARGV[2])
+end
+redis.call('PEXPIRE', KEYS[1], ttl)
+redis.call('PEXPIRE', KEYS[2], ttl)
+return ticket
@@ -0,0 +1,96 @@
+package uos.software.sirip.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import uos.software.sirip.config.cluster.ClusterMembership;
+import uos.software.sirip.coupon.application.CouponBatchIssuer.EventSnapshot;
+import uos.software.sirip.coupon.application.IssuanceResult.Status;
+import uos.software.sirip.coupon.infra.redis.ApplyOutcome;
+import uos.software.sirip.coupon.infra.redis.RedisCouponStock;
+
+/**
+ * SSE 결과 스트림이 타임아웃으로 끊겨도 엔진이 보관한 결과는 그대로 완료 · 조회되는지 검증.
+ * 작성기의 Redis 판정을 래치로 붙잡아 두고 스트림을 먼저 타임아웃시킨다.
+ */
+class IssuanceEngineTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long ACCOUNT_ID = 42L;
+    private static final Long COUPON_ID = 7L;
+
+    private final CountDownLatch judge = new CountDownLatch(1);
+    private IssuanceEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.systemDefaultZone();
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        CouponBatchIssuer couponBatchIssuer = mock(CouponBatchIssuer.class);
+        when(couponBatchIssuer.load(EVENT_ID))
+            .thenReturn(new EventSnapshot(now.minusHours(1), now.plusHours(1), 1));
+        when(couponBatchIssuer.issue(eq(EVENT_ID), anyList(), any(LocalDateTime.class)))
+            .thenReturn(Map.of(ACCOUNT_ID, COUPON_ID));
+
+        RedisCouponStock redisCouponStock = mock(RedisCouponStock.class);
+        when(redisCouponStock.tryApplyAll(eq(EVENT_ID), anyInt(), anyList())).thenAnswer(invocation -> {
+            judge.await(5, TimeUnit.SECONDS);
+            return List.of(ApplyOutcome.ISSUED);
+        });
+
+        engine = new IssuanceEngine(couponBatchIssuer, redisCouponStock,
+            mock(ClusterMembership.class), clock, true, 16, 16,
+            Duration.ofSeconds(5), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        judge.countDown();
+        engine.shutdown();
+    }
+
+    @Test
+    void timedOutStreamLeavesTrackedResultReadable() throws InterruptedException {
+        IssuanceResult submitted = engine.submit(ACCOUNT_ID, EVENT_ID);
+        String requestId = submitted.requestId();
+        assertThat(submitted.status()).isEqualTo(Status.PENDING);
+
+        // 컨트롤러 스트림과 같은 구성에서 타임아웃 (기본 fromFuture 는 타임아웃 시 future 를 취소)
+        IssuanceResult streamed = Mono.fromFuture(engine.awaitResult(ACCOUNT_ID, requestId))
+            .timeout(Duration.ofMillis(100), Mono.just(IssuanceResult.pending(requestId, EVENT_ID)))
+            .block();
+        assertThat(streamed.status()).isEqualTo(Status.PENDING);
+
+        judge.countDown();
+        IssuanceResult result = awaitFinished(requestId);
+        assertThat(result.status()).isEqualTo(Status.ISSUED);
+        assertThat(result.couponId()).isEqualTo(COUPON_ID);
+    }
+
+    private IssuanceResult awaitFinished(String requestId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        IssuanceResult result = engine.result(ACCOUNT_ID, EVENT_ID, requestId);
+        while (result.status() == Status.PENDING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            result = engine.result(ACCOUNT_ID, EVENT_ID, requestId);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package uos.software.sirip.coupon.infra.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 같은 신청자 수에서 SET 과 비트맵 중복 기록의 메모리 사용량 비교.
+ * 로컬 Redis(REDIS_HOST, 기본 localhost:6379)가 없으면 건너뛴다.
+ */
+class RedisDedupMemoryTest {
+
+    private static final long SET_EVENT_ID = 990_001L;
+    private static final long BITMAP_EVENT_ID = 990_002L;
+    private static final int APPLICANTS = 100_000;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+            System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+            Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+        try {
+            redis.getConnectionFactory().getConnection().ping();
+        } catch (RuntimeException e) {
+            assumeTrue(false, "Redis is not reachable: " + e.getMessage());
+        }
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        redis.delete(List.of(
+            CouponRedisKeys.applied(SET_EVENT_ID),
+            CouponRedisKeys.appliedBitmap(BITMAP_EVENT_ID)));
+    }
+
+    @Test
+    void bitmapUsesFarLessMemoryThanSetForDenseAccountIds() {
+        RedisCouponStock setStock = new RedisCouponStock(redis, DedupMode.SET);
+        RedisCouponStock bitmapStock = new RedisCouponStock(redis, DedupMode.BITMAP);
+        List<Long> accountIds = LongStream.rangeClosed(1, APPLICANTS).boxed().toList();
+
+        setStock.recordApplicants(SET_EVENT_ID, 1, accountIds);
+        bitmapStock.recordApplicants(BITMAP_EVENT_ID, 1, accountIds);
+
+        Long setBytes = setStock.memoryUsage(SET_EVENT_ID, 1);
+        Long bitmapBytes = bitmapStock.memoryUsage(BITMAP_EVENT_ID, 1);
+
+        assertThat(bitmapStock.hasApplied(BITMAP_EVENT_ID, 1, (long) APPLICANTS)).isTrue();
+        assertThat(setStock.hasApplied(SET_EVENT_ID, 1, (long) APPLICANTS)).isTrue();
+        // 비트맵은 최대 accountId / 8 바이트 (약 12KB), SET 은 회원마다 수십 바이트
+        assertThat(bitmapBytes).isLessThan(APPLICANTS / 8 + 1024);
+        assertThat(bitmapBytes * 10).isLessThan(setBytes);
+    }
+}
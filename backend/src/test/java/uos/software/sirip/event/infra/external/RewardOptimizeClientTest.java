@@ -0,0 +1,143 @@
+package uos.software.sirip.event.infra.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import uos.software.sirip.event.exception.RewardOptimizeUnavailableException;
+
+/**
+ * 로컬 /optimize 스텁(JDK HttpServer)에 대한 동기 호출 검증.
+ * 응답 타임아웃 300ms, 재시도 1회 → 전체 대기 한도 (300ms + 1s) × 2.
+ */
+class RewardOptimizeClientTest {
+
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMillis(300);
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private ReactiveValueOperations<String, String> cache;
+    private RewardOptimizeClient client;
+
+    private volatile String stubBody;
+    private volatile long stubDelayMillis;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/optimize", exchange -> {
+            try {
+                Thread.sleep(stubDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = stubBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (IOException ignored) {
+                // 클라이언트가 타임아웃으로 먼저 끊은 경우
+            }
+        });
+        server.start();
+
+        ReactiveStringRedisTemplate redis = mock(ReactiveStringRedisTemplate.class);
+        cache = mock(ReactiveValueOperations.class);
+        when(redis.opsForValue()).thenReturn(cache);
+        when(cache.get(anyString())).thenReturn(Mono.empty());
+        when(cache.set(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+
+        client = new RewardOptimizeClient(
+            WebClient.create("http://127.0.0.1:" + server.getAddress().getPort()),
+            redis,
+            new ObjectMapper(),
+            RESPONSE_TIMEOUT,
+            Duration.ofMinutes(10),
+            1,
+            50f,
+            Duration.ofSeconds(30),
+            4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void returnsRecommendedRewardFromStub() {
+        stubBody = "{\"recommended_reward\": 1500.0, \"expected_participants\": 80.0}";
+
+        assertThat(client.optimizeReward(request())).isEqualTo(1500.0);
+    }
+
+    @Test
+    void modelErrorBecomesUnavailable() {
+        stubBody = "{\"error\": \"model not loaded\"}";
+
+        assertThatThrownBy(() -> client.optimizeReward(request()))
+            .isInstanceOf(RewardOptimizeUnavailableException.class)
+            .hasMessage("model not loaded");
+    }
+
+    @Test
+    void slowServerBecomesUnavailable() {
+        stubBody = "{\"recommended_reward\": 1500.0}";
+        stubDelayMillis = 2_000;
+
+        assertTimeoutPreemptively(Duration.ofSeconds(3), () ->
+            assertThatThrownBy(() -> client.optimizeReward(request()))
+                .isInstanceOf(RewardOptimizeUnavailableException.class));
+    }
+
+    @Test
+    void hangingCacheHitsOverallDeadline() {
+        when(cache.get(anyString())).thenReturn(Mono.never());
+        stubBody = "{\"recommended_reward\": 1500.0}";
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+            assertThatThrownBy(() -> client.optimizeReward(request()))
+                .isInstanceOf(RewardOptimizeUnavailableException.class)
+                .hasCauseInstanceOf(TimeoutException.class));
+    }
+
+    private OptimizeRequest request() {
+        OptimizeRequest req = new OptimizeRequest();
+        req.setTitle("테스트 이벤트");
+        req.setEventType("LECTURE");
+        req.setOrganizerType("STUDENT_COUNCIL");
+        req.setTargetMajor("ALL");
+        req.setTargetGrade("ALL");
+        req.setWeekday("MON");
+        req.setBrandScore(3.0);
+        req.setDateGap(7);
+        req.setTargetParticipants(100);
+        return req;
+    }
+}
@@ -0,0 +1,273 @@
+package uos.software.sirip.event.infra.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uos.software.sirip.event.infra.external.OptimizeRequest;
+
+/**
+ * 평가 데이터(event_logs_eval_100.csv) 100 행으로 JVM 추론 경로를 검증한다.
+ *
+ * LightGBM 을 이 환경에서 학습할 수 없으므로 규칙을 알고 있는 트리 3개로 아티팩트를 만든다
+ * (원-핫 · 스케일러 파라미터는 평가 데이터에서 sklearn 과 같은 방식으로 계산).
+ * 각 행의 예측값은 같은 규칙을 원래 단위로 직접 계산한 값과 비교하고,
+ * 리워드 탐색 결과는 촘촘한 격자 탐색보다 손실이 크지 않은지 확인한다.
+ */
+class LocalRewardModelTest {
+
+    private static final String EVAL_CSV = "reward/event_logs_eval_100.csv";
+    private static final List<String> CATEGORICAL_COLUMNS =
+        List.of("event_type", "organizer_type", "target_major", "target_grade", "weekday");
+
+    private static final double TIME_DECAY_LAMBDA = 0.03;
+    private static final double ALPHA = 3.0;
+    private static final double BETA = 0.2;
+
+    // 트리 규칙 (원래 단위): 리워드 5000 이하면 음수 → 0 으로 클리핑
+    private static final double REWARD_SPLIT = 5000.0;
+    private static final double DATE_GAP_SPLIT = 7.0;
+    private static final String BOOSTED_EVENT_TYPE = "INFO_SESSION";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static List<EvalRow> rows;
+    private static ObjectNode artifact;
+    private static RewardModel model;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        rows = loadEvalRows();
+        artifact = buildArtifact(rows);
+        model = RewardModel.from(artifact);
+    }
+
+    @Test
+    void predictionsMatchReferenceForEveryEvalRow() {
+        assertThat(rows).hasSize(100);
+        for (EvalRow row : rows) {
+            assertThat(model.predictParticipants(row.request(), row.rewardAmount()))
+                .as("event %d", row.eventId())
+                .isEqualTo(expectedParticipants(row, row.rewardAmount()));
+        }
+    }
+
+    @Test
+    void recommendedRewardIsNoWorseThanGridSearch() {
+        double low = Math.max(0.0, minReward(rows));
+        double high = maxReward(rows) * 1.2;
+
+        for (EvalRow row : rows) {
+            RewardRecommendation recommendation = model.findBestReward(row.request());
+            assertThat(recommendation.reward()).isBetween(low, high);
+            assertThat(recommendation.expectedParticipants())
+                .isEqualTo(expectedParticipants(row, recommendation.reward()));
+
+            double gridBest = Double.MAX_VALUE;
+            for (double reward = low; reward <= high; reward += 10.0) {
+                gridBest = Math.min(gridBest, loss(row, reward, high));
+            }
+            assertThat(loss(row, recommendation.reward(), high))
+                .as("event %d", row.eventId())
+                .isLessThanOrEqualTo(gridBest + 1e-9);
+        }
+    }
+
+    @Test
+    void loadsArtifactWhoseValidationRowsMatch(@TempDir Path dir) throws IOException {
+        LocalRewardModel localRewardModel = load(dir.resolve("reward_model.json"), artifact);
+
+        assertThat(localRewardModel.current()).isPresent();
+    }
+
+    @Test
+    void refusesArtifactWhenOneEvalRowDiffers(@TempDir Path dir) throws IOException {
+        ObjectNode broken = artifact.deepCopy();
+        ObjectNode first = (ObjectNode) broken.get("validation").get(0);
+        first.put("predicted_participants", first.get("predicted_participants").asDouble() + 1.0);
+
+        LocalRewardModel localRewardModel = load(dir.resolve("reward_model.json"), broken);
+
+        assertThat(localRewardModel.current()).isEmpty();
+    }
+
+    private static LocalRewardModel load(Path path, ObjectNode content) throws IOException {
+        objectMapper.writeValue(path.toFile(), content);
+        LocalRewardModel localRewardModel = new LocalRewardModel(objectMapper, path.toString());
+        localRewardModel.load();
+        return localRewardModel;
+    }
+
+    /**
+     * 트리 규칙을 스케일링 없이 원래 단위로 계산한 기대 참가자 수
+     */
+    private static double expectedParticipants(EvalRow row, double reward) {
+        double sum = reward <= REWARD_SPLIT ? -1000.0 : 80.0;
+        sum += BOOSTED_EVENT_TYPE.equals(row.request().getEventType()) ? 12.0 : 0.0;
+        sum += row.request().getDateGap() <= DATE_GAP_SPLIT ? 5.0 : -5.0;
+        return Math.max(sum, 0.0);
+    }
+
+    private static double loss(EvalRow row, double reward, double rewardScale) {
+        double expected = expectedParticipants(row, reward);
+        double targetSafe = Math.max(row.request().getTargetParticipants(), 1.0);
+        double relError = Math.abs(expected - row.request().getTargetParticipants()) / targetSafe;
+        double relCost = (expected * reward) / Math.max(rewardScale * targetSafe, 1e-6);
+        return ALPHA * relError + BETA * relCost;
+    }
+
+    private static ObjectNode buildArtifact(List<EvalRow> rows) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("format_version", RewardModel.FORMAT_VERSION);
+        CATEGORICAL_COLUMNS.forEach(node.putArray("categorical_columns")::add);
+        node.putArray("numeric_columns")
+            .add("brand_score").add("date_gap").add("reward_amount").add("reward_effective");
+
+        // OneHotEncoder 처럼 열마다 정렬된 범주 목록
+        List<Function<OptimizeRequest, String>> getters = List.of(
+            OptimizeRequest::getEventType,
+            OptimizeRequest::getOrganizerType,
+            OptimizeRequest::getTargetMajor,
+            OptimizeRequest::getTargetGrade,
+            OptimizeRequest::getWeekday);
+        ArrayNode categories = node.putArray("categories");
+        int oneHotWidth = 0;
+        int boostedIndex = -1;
+        for (Function<OptimizeRequest, String> getter : getters) {
+            TreeSet<String> values = new TreeSet<>();
+            rows.forEach(row -> values.add(getter.apply(row.request())));
+            if (boostedIndex < 0) {
+                boostedIndex = values.headSet(BOOSTED_EVENT_TYPE).size();
+            }
+            ArrayNode column = categories.addArray();
+            values.forEach(column::add);
+            oneHotWidth += values.size();
+        }
+
+        // StandardScaler 처럼 모집단 표준편차
+        List<ToDoubleFunction<EvalRow>> numeric = List.of(
+            row -> row.request().getBrandScore(),
+            row -> row.request().getDateGap(),
+            EvalRow::rewardAmount,
+            row -> row.rewardAmount() * Math.exp(-TIME_DECAY_LAMBDA * row.request().getDateGap()));
+        double[] mean = new double[numeric.size()];
+        double[] scale = new double[numeric.size()];
+        ArrayNode meanNode = node.putArray("scaler_mean");
+        ArrayNode scaleNode = node.putArray("scaler_scale");
+        for (int i = 0; i < numeric.size(); i++) {
+            double[] values = rows.stream().mapToDouble(numeric.get(i)).toArray();
+            double m = 0.0;
+            for (double value : values) {
+                m += value;
+            }
+            m /= values.length;
+            double variance = 0.0;
+            for (double value : values) {
+                variance += (value - m) * (value - m);
+            }
+            mean[i] = m;
+            scale[i] = Math.sqrt(variance / values.length);
+            meanNode.add(mean[i]);
+            scaleNode.add(scale[i]);
+        }
+
+        node.put("time_decay_lambda", TIME_DECAY_LAMBDA);
+        node.put("reward_min", minReward(rows));
+        node.put("reward_max", maxReward(rows));
+        node.put("alpha", ALPHA);
+        node.put("beta", BETA);
+
+        ArrayNode trees = node.putArray("trees");
+        trees.addObject().set("tree_structure", split(oneHotWidth + 2,
+            (REWARD_SPLIT - mean[2]) / scale[2], -1000.0, 80.0));
+        trees.addObject().set("tree_structure", split(boostedIndex, 0.5, 0.0, 12.0));
+        trees.addObject().set("tree_structure", split(oneHotWidth + 1,
+            (DATE_GAP_SPLIT - mean[1]) / scale[1], 5.0, -5.0));
+
+        ArrayNode validation = node.putArray("validation");
+        double high = maxReward(rows) * 1.2;
+        for (EvalRow row : rows) {
+            ObjectNode entry = validation.addObject();
+            entry.set("features", objectMapper.valueToTree(row.request()));
+            entry.put("reward_amount", row.rewardAmount());
+            entry.put("predicted_participants", expectedParticipants(row, row.rewardAmount()));
+            double bestReward = Math.max(0.0, minReward(rows));
+            for (double reward = bestReward; reward <= high; reward += 10.0) {
+                if (loss(row, reward, high) < loss(row, bestReward, high)) {
+                    bestReward = reward;
+                }
+            }
+            entry.put("recommended_reward", bestReward);
+            entry.put("expected_participants", expectedParticipants(row, bestReward));
+        }
+        return node;
+    }
+
+    private static ObjectNode split(int feature, double threshold, double left, double right) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("split_feature", feature);
+        node.put("threshold", threshold);
+        node.put("decision_type", "<=");
+        node.put("default_left", true);
+        node.put("missing_type", "None");
+        node.putObject("left_child").put("leaf_value", left);
+        node.putObject("right_child").put("leaf_value", right);
+        return node;
+    }
+
+    private static double minReward(List<EvalRow> rows) {
+        return rows.stream().mapToDouble(EvalRow::rewardAmount).min().orElseThrow();
+    }
+
+    private static double maxReward(List<EvalRow> rows) {
+        return rows.stream().mapToDouble(EvalRow::rewardAmount).max().orElseThrow();
+    }
+
+    /**
+     * 평가 CSV 한 행. 목표 참가자 수는 export_model.py 와 같이 attended_participants
+     */
+    private static List<EvalRow> loadEvalRows() throws IOException {
+        List<EvalRow> loaded = new ArrayList<>();
+        try (InputStream in = LocalRewardModelTest.class.getClassLoader().getResourceAsStream(EVAL_CSV);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line = reader.readLine(); // 헤더
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                // event_id,title,event_type,organizer_type,target_major,target_grade,weekday,
+                // brand_score,date_gap,reward_amount,applied_participants,attended_participants
+                String[] f = line.split(",", -1);
+                OptimizeRequest request = new OptimizeRequest();
+                request.setTitle(f[1]);
+                request.setEventType(f[2]);
+                request.setOrganizerType(f[3]);
+                request.setTargetMajor(f[4]);
+                request.setTargetGrade(f[5]);
+                request.setWeekday(f[6]);
+                request.setBrandScore(Double.parseDouble(f[7]));
+                request.setDateGap(Integer.parseInt(f[8]));
+                request.setTargetParticipants(Double.parseDouble(f[11]));
+                loaded.add(new EvalRow(Long.parseLong(f[0]), request, Double.parseDouble(f[9])));
+            }
+        }
+        return loaded;
+    }
+
+    private record EvalRow(long eventId, OptimizeRequest request, double rewardAmount) {
+    }
+}
@@ -0,0 +1,95 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+
+// MODE=sync   : 기존 applyV2 (POST /coupons, 응답에 결과 포함)
+// MODE=engine : 발급 엔진 (POST /coupons/requests → 결과 폴링)
+// 서버는 engine 모드일 때 COUPON_ENGINE_ENABLED=true 로 띄운다.
+const BASE_URL = __ENV.API_BASE_URL || 'http://localhost:8080';
+const EVENT_ID = __ENV.EVENT_ID || '13';
+const MODE = __ENV.MODE || 'sync';
+const USERS = Number(__ENV.USERS || 200);
+
+// 신청 요청부터 최종 결과(발급/중복/매진)를 받을 때까지 걸린 시간
+const issueLatency = new Trend('issue_latency', true);
+
+const users = [];
+for (let i = 0; i < USERS; i++) {
+  users.push({
+    email: `admin${i}@uos.ac.kr`,
+    password: 'encoded_password',
+  });
+}
+
+export function setup() {
+  const tokens = users.map((user) => {
+    const res = http.post(`${BASE_URL}/user/login`, JSON.stringify(user), {
+      headers: { 'Content-Type': 'application/json' },
+    });
+    return res.json('accessToken');
+  });
+
+  return { tokens };
+}
+
+export const options = {
+  vus: USERS,
+  iterations: USERS,
+  thresholds: {
+    http_req_failed: ['rate<0.05'],
+    issue_latency: ['p(95)<1000'],
+  },
+};
+
+function admit(auth) {
+  let room = http.post(`${BASE_URL}/api/events/${EVENT_ID}/waiting-room`, null, auth).json();
+  while (room && !room.admitted) {
+    sleep(Math.min(Math.max(room.retryAfterMillis / 2000, 0.5), 5));
+    room = http.get(`${BASE_URL}/api/events/${EVENT_ID}/waiting-room`, auth).json();
+  }
+  return room.admissionToken;
+}
+
+function applySync(auth, admissionToken) {
+  const res = http.post(`${BASE_URL}/api/events/${EVENT_ID}/coupons`, null, {
+    headers: { ...auth.headers, 'X-Admission-Token': admissionToken },
+  });
+  check(res, {
+    '동기 신청 응답': (r) => r.status === 200 || r.status === 201 || r.status === 409,
+  });
+}
+
+function applyEngine(auth, admissionToken) {
+  const res = http.post(`${BASE_URL}/api/events/${EVENT_ID}/coupons/requests`, null, {
+    headers: { ...auth.headers, 'X-Admission-Token': admissionToken },
+  });
+  if (!check(res, { '신청 접수 202': (r) => r.status === 202 })) {
+    return;
+  }
+
+  let result = res.json();
+  while (!result.finished) {
+    sleep(0.05);
+    result = http.get(
+      `${BASE_URL}/api/events/${EVENT_ID}/coupons/requests/${result.requestId}`, auth).json();
+  }
+  check(result, {
+    '엔진 처리 완료': (r) => r.status !== 'FAILED',
+  });
+}
+
+export default function (data) {
+  const token = data.tokens[__VU - 1];
+  if (!token) return;
+
+  const auth = { headers: { Authorization: `Bearer ${token}` } };
+  const admissionToken = admit(auth);
+
+  const startedAt = Date.now();
+  if (MODE === 'engine') {
+    applyEngine(auth, admissionToken);
+  } else {
+    applySync(auth, admissionToken);
+  }
+  issueLatency.add(Date.now() - startedAt);
+}
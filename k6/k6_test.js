@@ -1,5 +1,5 @@
 import http from 'k6/http';
-import { check } from 'k6';
+import { check, sleep } from 'k6';
 
 const BASE_URL = __ENV.API_BASE_URL || 'http://localhost:8080';
 
@@ -39,13 +39,23 @@ export const options = {
   },
 };
 
-// 발급
+// 대기실 번호표 → 입장 허용까지 조회 → 입장 토큰으로 발급
 export default function (data) {
   const token = data.tokens[__VU - 1];
   if (!token) return;
 
+  const auth = { headers: { Authorization: `Bearer ${token}` } };
+  let room = http.post(`${BASE_URL}/api/events/13/waiting-room`, null, auth).json();
+  while (room && !room.admitted) {
+    sleep(Math.min(Math.max(room.retryAfterMillis / 2000, 0.5), 5));
+    room = http.get(`${BASE_URL}/api/events/13/waiting-room`, auth).json();
+  }
+
   const res = http.post(`${BASE_URL}/api/events/13/coupons`, null, {
-    headers: { Authorization: `Bearer ${token}` },
+    headers: {
+      Authorization: `Bearer ${token}`,
+      'X-Admission-Token': room.admissionToken,
+    },
   });
 
   check(res, {